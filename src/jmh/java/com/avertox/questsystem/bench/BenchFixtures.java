@@ -0,0 +1,142 @@
+package com.avertox.questsystem.bench;
+
+import com.avertox.questsystem.api.QuestStoryEventBus;
+import com.avertox.questsystem.config.MainConfig;
+import com.avertox.questsystem.data.StorageManager;
+import com.avertox.questsystem.economy.EconomyService;
+import com.avertox.questsystem.metrics.PluginMetrics;
+import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.PlayerQuestState;
+import com.avertox.questsystem.model.QuestHistoryEntry;
+import com.avertox.questsystem.model.QuestHistoryStatus;
+import com.avertox.questsystem.model.QuestReward;
+import com.avertox.questsystem.model.QuestType;
+import com.avertox.questsystem.quest.ConfigQuest;
+import com.avertox.questsystem.quest.Quest;
+import com.avertox.questsystem.quest.QuestManager;
+import com.avertox.questsystem.quest.QuestProgressTracker;
+import com.avertox.questsystem.quest.QuestRegistry;
+import com.avertox.questsystem.quest.QuestTask;
+import com.avertox.questsystem.quest.task.CollectBlocksTask;
+import com.avertox.questsystem.quest.task.CraftItemsTask;
+import com.avertox.questsystem.quest.task.KillMobsTask;
+import com.avertox.questsystem.quest.task.MineOresTask;
+import com.avertox.questsystem.quest.task.VisitCoordinatesTask;
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builders for quests, profiles and a plugin wired against {@link StandIns}. Quest targets are
+ * effectively unreachable so benchmarks measure progress updates, never completion rewards.
+ */
+public final class BenchFixtures {
+    public static final int UNREACHABLE_TARGET = Integer.MAX_VALUE;
+
+    private static final Material[] MATERIALS = {
+            Material.STONE, Material.COAL_ORE, Material.IRON_ORE, Material.GOLD_ORE,
+            Material.DIAMOND_ORE, Material.OAK_LOG, Material.SAND, Material.DIRT
+    };
+    private static final EntityType[] ENTITIES = {
+            EntityType.ZOMBIE, EntityType.SKELETON, EntityType.CREEPER, EntityType.SPIDER
+    };
+
+    private BenchFixtures() {
+    }
+
+    public static JavaPlugin plugin() {
+        try {
+            File dataFolder = Files.createTempDirectory("avertox-bench").toFile();
+            dataFolder.deleteOnExit();
+            return new BenchPlugin(dataFolder);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static QuestManager questManager(JavaPlugin plugin, QuestRegistry registry, QuestProgressTracker tracker) {
+        MainConfig config = new MainConfig(plugin);
+        PluginMetrics metrics = new PluginMetrics(false);
+        StorageManager storage = new StorageManager(plugin, config, null, metrics);
+        return new QuestManager(plugin, config, storage, new EconomyService(plugin), null, registry, tracker,
+                new QuestStoryEventBus(), metrics);
+    }
+
+    /**
+     * Task mix used when a benchmark needs {@code count} distinct quests: mine, collect, craft,
+     * kill and visit tasks with rotating targets.
+     */
+    public static QuestTask task(int index) {
+        Material material = MATERIALS[(index / 5) % MATERIALS.length];
+        return switch (index % 5) {
+            case 0 -> new MineOresTask(material);
+            case 1 -> new CollectBlocksTask(material);
+            case 2 -> new CraftItemsTask(material);
+            case 3 -> new KillMobsTask(ENTITIES[(index / 5) % ENTITIES.length]);
+            default -> new VisitCoordinatesTask("world", index * 100D, 64D, 0D, 8D);
+        };
+    }
+
+    /**
+     * Material the {@link #task} mix targets for rotation {@code index}, so actions built from it
+     * hit the same keys as the fixture quests.
+     */
+    public static Material material(int index) {
+        return MATERIALS[Math.floorMod(index, MATERIALS.length)];
+    }
+
+    public static EntityType entity(int index) {
+        return ENTITIES[Math.floorMod(index, ENTITIES.length)];
+    }
+
+    public static Quest quest(String id, QuestTask task) {
+        return new ConfigQuest(id, QuestType.DAILY, "Bench " + id, "Benchmark quest", task.type(),
+                UNREACHABLE_TARGET, QuestReward.empty(), false, "", task);
+    }
+
+    public static List<Quest> quests(int count) {
+        List<Quest> quests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            quests.add(quest("bench_" + i, task(i)));
+        }
+        return quests;
+    }
+
+    public static PlayerQuestProfile profile(UUID uuid, List<Quest> quests, int historySize) {
+        PlayerQuestProfile profile = new PlayerQuestProfile(uuid);
+        for (Quest quest : quests) {
+            profile.questStates().put(quest.id(), PlayerQuestState.createFresh(
+                    quest.id(), quest.type(), quest.targetValue(), 0L, System.currentTimeMillis()));
+        }
+        for (int i = 0; i < historySize; i++) {
+            profile.addHistory(historyEntry(i));
+        }
+        return profile;
+    }
+
+    public static QuestHistoryEntry historyEntry(int index) {
+        return new QuestHistoryEntry("bench_" + index, "Bench bench_" + index,
+                1_700_000_000_000L + index * 60_000L, QuestHistoryStatus.CLAIMED);
+    }
+
+    static final class BenchPlugin extends JavaPlugin {
+        // JavaPlugin's test constructor needs a loader; its only constructor is deprecated.
+        @SuppressWarnings("deprecation")
+        BenchPlugin(File dataFolder) {
+            super(new JavaPluginLoader(StandIns.server()),
+                    new PluginDescriptionFile("AvertoxQuestSystem", "bench", BenchPlugin.class.getName()),
+                    dataFolder,
+                    new File(dataFolder, "AvertoxQuestSystem.jar"));
+        }
+    }
+}
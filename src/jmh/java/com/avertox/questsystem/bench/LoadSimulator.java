@@ -0,0 +1,494 @@
+package com.avertox.questsystem.bench;
+
+import com.avertox.questsystem.api.QuestStoryEventBus;
+import com.avertox.questsystem.config.MainConfig;
+import com.avertox.questsystem.data.StorageManager;
+import com.avertox.questsystem.economy.EconomyService;
+import com.avertox.questsystem.event.EventManager;
+import com.avertox.questsystem.event.EventRegistry;
+import com.avertox.questsystem.listener.PlayerConnectionListener;
+import com.avertox.questsystem.listener.QuestProgressListener;
+import com.avertox.questsystem.metrics.PluginMetrics;
+import com.avertox.questsystem.model.QuestAction;
+import com.avertox.questsystem.quest.QuestManager;
+import com.avertox.questsystem.quest.QuestProgressTracker;
+import com.avertox.questsystem.quest.QuestRegistry;
+import com.avertox.questsystem.util.AsyncExecutor;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives {@link QuestProgressListener}, {@link PlayerConnectionListener} and {@link QuestManager}
+ * with scripted players at a fixed action rate, ticking the plugin's scheduled work at 20 TPS in
+ * real time against {@link StandIns}. Per measured tick it records the time and main-thread bytes
+ * allocated inside plugin code, and samples the write-behind queue depth.
+ *
+ * <p>Events are built before the measured window and handlers are called directly, so Bukkit's
+ * own event dispatch is not counted. Crafts go through {@link QuestManager#queueAction} because
+ * {@code CraftItemEvent} needs a real inventory view.
+ */
+public final class LoadSimulator {
+    private static final int TICKS_PER_SECOND = 20;
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(1L) / TICKS_PER_SECOND;
+    private static final String USAGE = "Options: --players N --actions-per-second N --seconds N --warmup-seconds N"
+            + " --quests N --churn-per-minute N --storage yaml|yaml_sharded|mysql --config path/to/config.yml"
+            + " --async-threads N --seed N";
+
+    private final Options options;
+    private final Random random;
+    private final TickScheduler scheduler = new TickScheduler();
+    private final World world = StandIns.world("world");
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final boolean allocationSupported;
+    private final ExecutorService loginThreads;
+    private final Queue<SimPlayer> readyToJoin = new ConcurrentLinkedQueue<>();
+    private final List<SimPlayer> online = new ArrayList<>();
+    private final List<SimPlayer> reconnecting = new ArrayList<>();
+    private final Map<String, Long> dispatched = new HashMap<>();
+
+    private JavaPlugin plugin;
+    private PluginMetrics metrics;
+    private AsyncExecutor async;
+    private StorageManager storage;
+    private QuestManager questManager;
+    private QuestProgressListener progressListener;
+    private PlayerConnectionListener connectionListener;
+    private double actionCarry;
+    private double churnCarry;
+
+    private LoadSimulator(Options options) {
+        this.options = options;
+        this.random = new Random(options.seed());
+        this.allocationSupported = threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+        this.loginThreads = Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "LoadSimulator-login");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        LoadSimulator simulator = new LoadSimulator(options);
+        try {
+            simulator.start();
+            simulator.run();
+        } finally {
+            simulator.close();
+        }
+        System.exit(0);
+    }
+
+    private void start() throws IOException {
+        StandIns.useScheduler(scheduler.asBukkitScheduler());
+        plugin = BenchFixtures.plugin();
+        if (options.config() != null) {
+            Files.createDirectories(plugin.getDataFolder().toPath());
+            Files.copy(options.config(), plugin.getDataFolder().toPath().resolve("config.yml"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        MainConfig config = new MainConfig(plugin);
+        if (options.storage() != null) {
+            plugin.getConfig().set("storage.mode", options.storage());
+        }
+
+        metrics = new PluginMetrics(config.metricsEnabled());
+        plugin.getConfig().set("async.threads", options.asyncThreads());
+        async = new AsyncExecutor(plugin, config, metrics);
+        storage = new StorageManager(plugin, config, async, metrics);
+        storage.initialize().join();
+        storage.startWriteBehind();
+
+        QuestRegistry registry = new QuestRegistry();
+        BenchFixtures.quests(options.quests()).forEach(registry::registerQuest);
+        EventManager eventManager = new EventManager(plugin, config, storage, new EventRegistry(), metrics);
+        questManager = new QuestManager(plugin, config, storage, new EconomyService(plugin), eventManager,
+                registry, new QuestProgressTracker(), new QuestStoryEventBus(), metrics);
+        questManager.start();
+        progressListener = new QuestProgressListener(plugin, questManager, eventManager);
+        connectionListener = new PlayerConnectionListener(questManager, eventManager);
+
+        for (int i = 0; i < options.players(); i++) {
+            connect(new SimPlayer(UUID.nameUUIDFromBytes(("sim-" + i).getBytes()), "sim" + i));
+        }
+        System.out.printf(Locale.ROOT, "storage=%s players=%d actions/s=%d quests=%d churn/min=%d warmup=%ds measured=%ds%n",
+                storage.mode(), options.players(), options.actionsPerSecond(), options.quests(),
+                options.churnPerMinute(), options.warmupSeconds(), options.seconds());
+    }
+
+    private void run() {
+        int warmupTicks = options.warmupSeconds() * TICKS_PER_SECOND;
+        int measuredTicks = options.seconds() * TICKS_PER_SECOND;
+        Stats stats = new Stats(measuredTicks);
+        List<Runnable> work = new ArrayList<>();
+        long deadline = System.nanoTime();
+
+        for (int tick = 0; tick < warmupTicks + measuredTicks; tick++) {
+            if (tick == warmupTicks) {
+                dispatched.clear();
+                metrics.reset();
+            }
+            work.clear();
+            planTick(work);
+
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            for (Runnable call : work) {
+                call.run();
+            }
+            int tasks = scheduler.tick();
+            long elapsed = System.nanoTime() - start;
+            long allocated = allocatedBytes() - allocatedBefore;
+            reconnecting.forEach(this::connect);
+            reconnecting.clear();
+
+            if (tick >= warmupTicks) {
+                stats.record(elapsed, allocated, tasks, storage.dirtyCount(), storage.pendingWriteCount());
+            }
+            deadline += TICK_NANOS;
+            long sleep = deadline - System.nanoTime();
+            if (sleep > 0L) {
+                LockSupport.parkNanos(sleep);
+            } else {
+                deadline = System.nanoTime();
+            }
+        }
+        stats.print(allocationSupported, scheduler.failures(), dispatched);
+        if (metrics.enabled()) {
+            metrics.report().forEach(System.out::println);
+        }
+    }
+
+    /**
+     * Builds this tick's plugin calls: joins whose pre-login finished, churn quits, then actions.
+     * Players quitting this tick start logging back in once the tick has run.
+     */
+    private void planTick(List<Runnable> work) {
+        SimPlayer joining;
+        while ((joining = readyToJoin.poll()) != null) {
+            SimPlayer player = joining;
+            PlayerJoinEvent event = new PlayerJoinEvent(player.handle, null);
+            online.add(player);
+            work.add(() -> {
+                StandIns.setOnline(player.handle, true);
+                connectionListener.onJoin(event);
+            });
+        }
+
+        churnCarry += options.churnPerMinute() / (60D * TICKS_PER_SECOND);
+        while (churnCarry >= 1D && !online.isEmpty()) {
+            churnCarry -= 1D;
+            SimPlayer player = removeOnline(random.nextInt(online.size()));
+            PlayerQuitEvent event = new PlayerQuitEvent(player.handle, null);
+            work.add(() -> {
+                progressListener.onQuit(event);
+                connectionListener.onQuit(event);
+                StandIns.setOnline(player.handle, false);
+            });
+            reconnecting.add(player);
+        }
+
+        actionCarry += (double) options.actionsPerSecond() / TICKS_PER_SECOND;
+        while (actionCarry >= 1D && !online.isEmpty()) {
+            actionCarry -= 1D;
+            work.add(nextAction(online.get(random.nextInt(online.size()))));
+        }
+    }
+
+    private Runnable nextAction(SimPlayer player) {
+        int roll = random.nextInt(100);
+        if (roll < 50) {
+            count("break");
+            BlockBreakEvent event = new BlockBreakEvent(player.block(BenchFixtures.material(random.nextInt())), player.handle);
+            return () -> progressListener.onBlockBreak(event);
+        }
+        if (roll < 70) {
+            count("pickup");
+            Item item = player.droppedItem(new ItemStack(BenchFixtures.material(random.nextInt()), 1 + random.nextInt(4)));
+            EntityPickupItemEvent event = new EntityPickupItemEvent(player.handle, item, 0);
+            return () -> progressListener.onCollect(event);
+        }
+        if (roll < 80) {
+            count("kill");
+            EntityDeathEvent event = new EntityDeathEvent(player.victim(BenchFixtures.entity(random.nextInt())), new ArrayList<>());
+            return () -> progressListener.onMobKill(event);
+        }
+        if (roll < 95) {
+            count("move");
+            Location from = player.location();
+            player.step();
+            PlayerMoveEvent event = new PlayerMoveEvent(player.handle, from, player.location());
+            return () -> progressListener.onMove(event);
+        }
+        count("craft");
+        QuestAction craft = QuestAction.craft(BenchFixtures.material(random.nextInt()), 1);
+        return () -> questManager.queueAction(player.handle, craft);
+    }
+
+    private void connect(SimPlayer player) {
+        AsyncPlayerPreLoginEvent event = new AsyncPlayerPreLoginEvent(player.name, InetAddress.getLoopbackAddress(), player.uuid);
+        loginThreads.execute(() -> {
+            connectionListener.onPreLogin(event);
+            readyToJoin.add(player);
+        });
+    }
+
+    private SimPlayer removeOnline(int index) {
+        SimPlayer removed = online.get(index);
+        SimPlayer last = online.remove(online.size() - 1);
+        if (index < online.size()) {
+            online.set(index, last);
+        }
+        return removed;
+    }
+
+    private void count(String action) {
+        dispatched.merge(action, 1L, Long::sum);
+    }
+
+    private long allocatedBytes() {
+        return allocationSupported ? threads.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    private void close() {
+        loginThreads.shutdownNow();
+        if (questManager != null) {
+            for (SimPlayer player : online) {
+                PlayerQuitEvent event = new PlayerQuitEvent(player.handle, null);
+                progressListener.onQuit(event);
+                connectionListener.onQuit(event);
+                StandIns.setOnline(player.handle, false);
+            }
+            questManager.stop();
+        }
+        if (storage != null) {
+            storage.shutdown().join();
+        }
+        if (async != null) {
+            async.shutdown();
+        }
+        StandIns.useScheduler(null);
+    }
+
+    /**
+     * A scripted player: walks along the x axis through the fixture visit targets and breaks,
+     * picks up and kills around its current position.
+     */
+    private final class SimPlayer {
+        private final UUID uuid;
+        private final String name;
+        private final Player handle;
+        private int x;
+        private final int z;
+
+        private SimPlayer(UUID uuid, String name) {
+            this.uuid = uuid;
+            this.name = name;
+            this.x = random.nextInt(Math.max(1, options.quests())) * 100 - 16;
+            this.z = random.nextInt(9) - 4;
+            PlayerInventory inventory = StandIns.proxy(PlayerInventory.class, Map.of(
+                    "getItemInMainHand", args -> new ItemStack(Material.IRON_PICKAXE)
+            ));
+            this.handle = StandIns.proxy(Player.class, Map.of(
+                    "getUniqueId", args -> uuid,
+                    "getName", args -> name,
+                    "isOnline", args -> true,
+                    "getWorld", args -> world,
+                    "getLocation", args -> location(),
+                    "getInventory", args -> inventory
+            ));
+        }
+
+        private Location location() {
+            return new Location(world, x + 0.5D, 64D, z + 0.5D);
+        }
+
+        private void step() {
+            x++;
+        }
+
+        private Block block(Material type) {
+            int bx = x + random.nextInt(5) - 2;
+            int bz = z + random.nextInt(5) - 2;
+            Location at = new Location(world, bx, 63D, bz);
+            return StandIns.proxy(Block.class, Map.of(
+                    "getType", args -> type,
+                    "getWorld", args -> world,
+                    "getX", args -> bx,
+                    "getY", args -> 63,
+                    "getZ", args -> bz,
+                    "getLocation", args -> at,
+                    "getDrops", args -> List.of()
+            ));
+        }
+
+        private Item droppedItem(ItemStack stack) {
+            Location at = location();
+            return StandIns.proxy(Item.class, Map.of(
+                    "getItemStack", args -> stack,
+                    "getLocation", args -> at,
+                    "getWorld", args -> world
+            ));
+        }
+
+        private LivingEntity victim(EntityType type) {
+            Location at = location();
+            return StandIns.proxy(LivingEntity.class, Map.of(
+                    "getType", args -> type,
+                    "getKiller", args -> handle,
+                    "getLocation", args -> at,
+                    "getWorld", args -> world
+            ));
+        }
+    }
+
+    private static final class Stats {
+        private final long[] nanos;
+        private final long[] bytes;
+        private int ticks;
+        private long tasks;
+        private int maxDirty;
+        private long dirtySum;
+        private int maxPending;
+        private long pendingSum;
+
+        private Stats(int capacity) {
+            this.nanos = new long[capacity];
+            this.bytes = new long[capacity];
+        }
+
+        private void record(long elapsedNanos, long allocatedBytes, int ranTasks, int dirty, int pending) {
+            nanos[ticks] = elapsedNanos;
+            bytes[ticks] = allocatedBytes;
+            ticks++;
+            tasks += ranTasks;
+            maxDirty = Math.max(maxDirty, dirty);
+            dirtySum += dirty;
+            maxPending = Math.max(maxPending, pending);
+            pendingSum += pending;
+        }
+
+        private void print(boolean allocationSupported, long taskFailures, Map<String, Long> dispatched) {
+            if (ticks == 0) {
+                System.out.println("No measured ticks.");
+                return;
+            }
+            long[] sortedNanos = Arrays.copyOf(nanos, ticks);
+            Arrays.sort(sortedNanos);
+            long overBudget = Arrays.stream(sortedNanos).filter(value -> value > TICK_NANOS).count();
+            long[] sortedBytes = Arrays.copyOf(bytes, ticks);
+            Arrays.sort(sortedBytes);
+
+            System.out.printf(Locale.ROOT, "ticks=%d dispatched=%s scheduledTasks/tick=%.1f taskFailures=%d%n",
+                    ticks, dispatched, (double) tasks / ticks, taskFailures);
+            System.out.printf(Locale.ROOT, "plugin ms/tick: p50=%.3f p95=%.3f p99=%.3f max=%.3f overBudget=%d%n",
+                    millis(percentile(sortedNanos, 0.50D)), millis(percentile(sortedNanos, 0.95D)),
+                    millis(percentile(sortedNanos, 0.99D)), millis(sortedNanos[ticks - 1]), overBudget);
+            if (allocationSupported) {
+                System.out.printf(Locale.ROOT, "plugin KB/tick: mean=%.1f p99=%.1f max=%.1f%n",
+                        Arrays.stream(sortedBytes).average().orElse(0D) / 1024D,
+                        percentile(sortedBytes, 0.99D) / 1024D, sortedBytes[ticks - 1] / 1024D);
+            } else {
+                System.out.println("plugin KB/tick: unavailable (thread allocation accounting disabled)");
+            }
+            System.out.printf(Locale.ROOT, "storage queue: dirty mean=%.1f max=%d, pending writes mean=%.1f max=%d%n",
+                    (double) dirtySum / ticks, maxDirty, (double) pendingSum / ticks, maxPending);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000D;
+        }
+    }
+
+    private record Options(int players, int actionsPerSecond, int seconds, int warmupSeconds, int quests,
+                           int churnPerMinute, String storage, Path config, int asyncThreads, long seed) {
+        private static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < args.length; i++) {
+                String key = args[i];
+                if (!key.startsWith("--") || i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Expected --option value, got " + key);
+                }
+                values.put(key.substring(2), args[++i]);
+            }
+            Options options = new Options(
+                    intOption(values, "players", 100, 1),
+                    intOption(values, "actions-per-second", 2_000, 0),
+                    intOption(values, "seconds", 60, 1),
+                    intOption(values, "warmup-seconds", 10, 0),
+                    intOption(values, "quests", 45, 1),
+                    intOption(values, "churn-per-minute", 30, 0),
+                    values.remove("storage"),
+                    values.containsKey("config") ? Path.of(values.remove("config")) : null,
+                    intOption(values, "async-threads", 4, 1),
+                    values.containsKey("seed") ? Long.parseLong(values.remove("seed")) : 42L
+            );
+            if (!values.isEmpty()) {
+                throw new IllegalArgumentException("Unknown options " + values.keySet());
+            }
+            return options;
+        }
+
+        private static int intOption(Map<String, String> values, String key, int fallback, int min) {
+            String raw = values.remove(key);
+            if (raw == null) {
+                return fallback;
+            }
+            try {
+                return Math.max(min, Integer.parseInt(raw));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("--" + key + " expects a number, got " + raw);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.avertox.questsystem.bench;
+
+import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.QuestHistoryEntry;
+import com.avertox.questsystem.quest.Quest;
+import com.avertox.questsystem.quest.QuestRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry lookups and the per-profile history operations hit on every completion and
+ * every eligibility check: {@link QuestRegistry#getQuest}, {@link PlayerQuestProfile#addHistory}
+ * and {@link PlayerQuestProfile#hasCompleted}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+    @Param({"50", "500"})
+    public int registeredQuests;
+
+    private QuestRegistry registry;
+    private PlayerQuestProfile profile;
+    private QuestHistoryEntry[] entries;
+    private String knownId;
+    private String mixedCaseId;
+    private String completedId;
+    private String unknownId;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        registry = new QuestRegistry();
+        List<Quest> quests = BenchFixtures.quests(registeredQuests);
+        quests.forEach(registry::registerQuest);
+        knownId = quests.get(registeredQuests / 2).id();
+        mixedCaseId = knownId.toUpperCase();
+        unknownId = "missing_quest";
+
+        profile = BenchFixtures.profile(UUID.randomUUID(), List.of(), PlayerQuestProfile.HISTORY_CAPACITY);
+        completedId = BenchFixtures.historyEntry(PlayerQuestProfile.HISTORY_CAPACITY / 2).questId();
+        entries = new QuestHistoryEntry[PlayerQuestProfile.HISTORY_CAPACITY * 2];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = BenchFixtures.historyEntry(i);
+        }
+    }
+
+    @Benchmark
+    public Quest getQuest() {
+        return registry.getQuest(knownId);
+    }
+
+    @Benchmark
+    public Quest getQuestMixedCase() {
+        return registry.getQuest(mixedCaseId);
+    }
+
+    @Benchmark
+    public Quest getQuestMissing() {
+        return registry.getQuest(unknownId);
+    }
+
+    @Benchmark
+    public void addHistory() {
+        profile.addHistory(entries[next]);
+        next = (next + 1) % entries.length;
+    }
+
+    @Benchmark
+    public boolean hasCompleted() {
+        return profile.hasCompleted(completedId);
+    }
+
+    @Benchmark
+    public boolean hasCompletedMissing() {
+        return profile.hasCompleted(unknownId);
+    }
+}
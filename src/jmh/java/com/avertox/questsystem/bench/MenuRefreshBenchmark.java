@@ -0,0 +1,73 @@
+package com.avertox.questsystem.bench;
+
+import com.avertox.questsystem.config.MainConfig;
+import com.avertox.questsystem.gui.MenuManager;
+import com.avertox.questsystem.gui.menu.QuestMainMenu;
+import com.avertox.questsystem.metrics.PluginMetrics;
+import com.avertox.questsystem.quest.Quest;
+import com.avertox.questsystem.quest.QuestManager;
+import com.avertox.questsystem.quest.QuestProgressTracker;
+import com.avertox.questsystem.quest.QuestRegistry;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of refreshing an open quest hub for a player with {@code activeQuests} quests. Run with
+ * {@code -prof gc} to see the bytes each refresh allocates; item meta comes from
+ * {@link StandIns}, so the numbers are a lower bound for a real server.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MenuRefreshBenchmark {
+    @Param({"0", "9"})
+    public int activeQuests;
+
+    private QuestMainMenu menu;
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        QuestRegistry registry = new QuestRegistry();
+        List<Quest> quests = BenchFixtures.quests(activeQuests);
+        quests.forEach(registry::registerQuest);
+
+        UUID uuid = UUID.randomUUID();
+        QuestProgressTracker tracker = new QuestProgressTracker();
+        tracker.set(BenchFixtures.profile(uuid, quests, 0));
+        JavaPlugin plugin = BenchFixtures.plugin();
+        QuestManager questManager = BenchFixtures.questManager(plugin, registry, tracker);
+        MenuManager menuManager = new MenuManager(plugin, new MainConfig(plugin), new PluginMetrics(false));
+        player = StandIns.player(uuid, "bench");
+
+        menu = new QuestMainMenu(questManager, menuManager);
+        // The first refresh writes the whole inventory; measure the steady-state redraws after it.
+        menu.refresh(player);
+    }
+
+    @Benchmark
+    public Inventory refreshQuestHub() {
+        menu.refresh(player);
+        return menu.getInventory();
+    }
+}
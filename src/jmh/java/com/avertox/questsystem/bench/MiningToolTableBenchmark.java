@@ -0,0 +1,84 @@
+package com.avertox.questsystem.bench;
+
+import com.avertox.questsystem.util.MiningToolTable;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mining-assist tool checks through {@link MiningToolTable} against the per-hit MINEABLE tag
+ * and tool-name suffix checks it replaced. Tags come from {@link StandIns}, which are cheaper
+ * than the server's, so the baseline numbers are a lower bound.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MiningToolTableBenchmark {
+    private static final Material[][] HITS = {
+            {Material.IRON_PICKAXE, Material.IRON_ORE},
+            {Material.DIAMOND_PICKAXE, Material.STONE},
+            {Material.IRON_SHOVEL, Material.DIRT},
+            {Material.WOODEN_PICKAXE, Material.OAK_LOG},
+            {Material.AIR, Material.SAND}
+    };
+
+    private MiningToolTable table;
+
+    @Setup
+    public void setUp() {
+        StandIns.server();
+        table = MiningToolTable.build();
+    }
+
+    @Benchmark
+    public void table(Blackhole blackhole) {
+        for (Material[] hit : HITS) {
+            blackhole.consume(table.isSupportedBlock(hit[1]) && table.isMatchingTool(hit[0], hit[1]));
+        }
+    }
+
+    @Benchmark
+    public void tagsAndSuffixes(Blackhole blackhole) {
+        for (Material[] hit : HITS) {
+            blackhole.consume(isSupportedBlock(hit[1]) && isMatchingTool(hit[0], hit[1]));
+        }
+    }
+
+    private static boolean isSupportedBlock(Material blockType) {
+        return Tag.MINEABLE_PICKAXE.isTagged(blockType)
+                || Tag.MINEABLE_SHOVEL.isTagged(blockType)
+                || Tag.MINEABLE_AXE.isTagged(blockType);
+    }
+
+    private static boolean isMatchingTool(Material held, Material blockType) {
+        if (held == Material.AIR) {
+            return false;
+        }
+        String heldName = held.name();
+        if (Tag.MINEABLE_PICKAXE.isTagged(blockType)) {
+            return heldName.endsWith("_PICKAXE");
+        }
+        if (Tag.MINEABLE_SHOVEL.isTagged(blockType)) {
+            return heldName.endsWith("_SHOVEL");
+        }
+        if (Tag.MINEABLE_AXE.isTagged(blockType)) {
+            return heldName.endsWith("_AXE");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,100 @@
+package com.avertox.questsystem.bench;
+
+import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.PlayerQuestState;
+import com.avertox.questsystem.model.QuestAction;
+import com.avertox.questsystem.quest.Quest;
+import com.avertox.questsystem.quest.QuestManager;
+import com.avertox.questsystem.quest.QuestProgressTracker;
+import com.avertox.questsystem.quest.QuestRegistry;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link QuestManager#onQuestAction} call for a player holding {@code questsPerPlayer}
+ * active quests, for an action that advances a quest and for ones that match nothing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuestActionBenchmark {
+    @Param({"3", "9", "27", "81"})
+    public int questsPerPlayer;
+
+    private QuestManager questManager;
+    private PlayerQuestProfile profile;
+    private Player player;
+    private QuestAction matchingBreak;
+    private QuestAction unmatchedBreak;
+    private QuestAction unmatchedKill;
+    private QuestAction unmatchedMove;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        QuestRegistry registry = new QuestRegistry();
+        List<Quest> quests = BenchFixtures.quests(questsPerPlayer);
+        quests.forEach(registry::registerQuest);
+
+        UUID uuid = UUID.randomUUID();
+        QuestProgressTracker tracker = new QuestProgressTracker();
+        profile = BenchFixtures.profile(uuid, quests, 0);
+        tracker.set(profile);
+        questManager = BenchFixtures.questManager(BenchFixtures.plugin(), registry, tracker);
+        player = StandIns.player(uuid, "bench");
+
+        World world = StandIns.world("world");
+        matchingBreak = QuestAction.blockBreak(Material.STONE, 1, new Location(world, 0D, 64D, 0D));
+        unmatchedBreak = QuestAction.blockBreak(Material.ANVIL, 1, new Location(world, 0D, 64D, 0D));
+        unmatchedKill = QuestAction.mobKill(EntityType.PLAYER, new Location(world, 0D, 64D, 0D));
+        unmatchedMove = QuestAction.move(new Location(world, 50D, 64D, 5_000D));
+    }
+
+    @Setup(Level.Iteration)
+    public void resetProgress() {
+        for (PlayerQuestState state : profile.questStates().values()) {
+            state.forceProgress(0);
+        }
+    }
+
+    @Benchmark
+    public void matchingBlockBreak() {
+        questManager.onQuestAction(player, matchingBreak);
+    }
+
+    @Benchmark
+    public void unmatchedBlockBreak() {
+        questManager.onQuestAction(player, unmatchedBreak);
+    }
+
+    @Benchmark
+    public void unmatchedKill() {
+        questManager.onQuestAction(player, unmatchedKill);
+    }
+
+    @Benchmark
+    public void unmatchedMove() {
+        questManager.onQuestAction(player, unmatchedMove);
+    }
+}
@@ -0,0 +1,95 @@
+package com.avertox.questsystem.bench;
+
+import com.avertox.questsystem.model.QuestAction;
+import com.avertox.questsystem.quest.QuestTask;
+import com.avertox.questsystem.quest.task.CollectBlocksTask;
+import com.avertox.questsystem.quest.task.CraftItemsTask;
+import com.avertox.questsystem.quest.task.KillMobsTask;
+import com.avertox.questsystem.quest.task.MineOresTask;
+import com.avertox.questsystem.quest.task.VisitCoordinatesTask;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.EntityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link QuestTask#matches} for every built-in task type against an action it accepts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestTaskBenchmark {
+    private QuestTask mineOres;
+    private QuestTask mineAnyOre;
+    private QuestTask collectBlocks;
+    private QuestTask craftItems;
+    private QuestTask killMobs;
+    private QuestTask visitCoordinates;
+    private QuestAction blockBreak;
+    private QuestAction collect;
+    private QuestAction craft;
+    private QuestAction kill;
+    private QuestAction move;
+
+    @Setup
+    public void setUp() {
+        World world = StandIns.world("world");
+        Location location = new Location(world, 100D, 64D, 100D);
+        mineOres = new MineOresTask(Material.IRON_ORE);
+        mineAnyOre = new MineOresTask(null);
+        collectBlocks = new CollectBlocksTask(Material.SAND);
+        craftItems = new CraftItemsTask(Material.CHEST);
+        killMobs = new KillMobsTask(EntityType.ZOMBIE);
+        visitCoordinates = new VisitCoordinatesTask("world", 100D, 64D, 100D, 8D);
+        blockBreak = QuestAction.blockBreak(Material.IRON_ORE, 1, location);
+        collect = QuestAction.collect(Material.SAND, 1, location);
+        craft = QuestAction.craft(Material.CHEST, 1);
+        kill = QuestAction.mobKill(EntityType.ZOMBIE, location);
+        move = QuestAction.move(location);
+    }
+
+    @Benchmark
+    public boolean mineOres() {
+        return mineOres.matches(blockBreak);
+    }
+
+    @Benchmark
+    public boolean mineAnyOre() {
+        return mineAnyOre.matches(blockBreak);
+    }
+
+    @Benchmark
+    public boolean collectBlocks() {
+        return collectBlocks.matches(collect);
+    }
+
+    @Benchmark
+    public boolean craftItems() {
+        return craftItems.matches(craft);
+    }
+
+    @Benchmark
+    public boolean killMobs() {
+        return killMobs.matches(kill);
+    }
+
+    @Benchmark
+    public boolean visitCoordinates() {
+        return visitCoordinates.matches(move);
+    }
+}
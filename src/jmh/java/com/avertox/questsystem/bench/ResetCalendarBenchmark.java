@@ -0,0 +1,68 @@
+package com.avertox.questsystem.bench;
+
+import com.avertox.questsystem.util.ResetCalendar;
+import com.avertox.questsystem.util.TimeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reset checks through the cached {@link ResetCalendar} against the per-call
+ * {@link TimeUtil} date arithmetic it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResetCalendarBenchmark {
+    private ResetCalendar calendar;
+    private ZoneId zone;
+    private DayOfWeek resetDay;
+    private long lastReset;
+
+    @Setup
+    public void setUp() {
+        zone = ZoneId.of("Europe/Berlin");
+        resetDay = DayOfWeek.MONDAY;
+        calendar = new ResetCalendar(zone, resetDay, 24, 30);
+        lastReset = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(3);
+    }
+
+    @Benchmark
+    public boolean weeklyCalendar() {
+        return calendar.needsWeeklyReset(lastReset, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public boolean weeklyTimeUtil() {
+        return TimeUtil.needsWeeklyReset(lastReset, resetDay, zone);
+    }
+
+    @Benchmark
+    public boolean dailyCalendar() {
+        return calendar.needsDailyReset(lastReset, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public boolean dailyTimeUtil() {
+        return TimeUtil.needsDailyReset(lastReset, 24);
+    }
+
+    @Benchmark
+    public long weeklyExpiryCalendar() {
+        return calendar.weeklyExpiry(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,268 @@
+package com.avertox.questsystem.bench;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Server;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Lightweight proxies for the Bukkit types the benchmarks touch. Every method not handled
+ * explicitly is a no-op returning the type's default value, so events, schedulers and
+ * player messages cost nothing and only the plugin's own work is measured.
+ */
+public final class StandIns {
+    private static final Logger LOGGER = Logger.getLogger("AvertoxQuestSystem-bench");
+    private static final Map<UUID, Player> ONLINE = new ConcurrentHashMap<>();
+    private static final BukkitScheduler NO_OP_SCHEDULER = proxy(BukkitScheduler.class, Map.of());
+    private static volatile BukkitScheduler scheduler = NO_OP_SCHEDULER;
+    private static final ItemFactory ITEM_FACTORY = proxy(ItemFactory.class, Map.of(
+            "getItemMeta", args -> MetaState.create(),
+            "isApplicable", args -> true,
+            "asMetaFor", args -> args[0],
+            "equals", args -> Objects.equals(args[0], args[1])
+    ));
+    private static volatile Thread mainThread;
+    private static Server server;
+
+    private StandIns() {
+    }
+
+    public static synchronized Server server() {
+        if (server == null) {
+            PluginManager pluginManager = proxy(PluginManager.class, Map.of());
+            server = proxy(Server.class, Map.ofEntries(
+                    Map.entry("getLogger", args -> LOGGER),
+                    Map.entry("getName", args -> "StandIn"),
+                    Map.entry("getVersion", args -> "bench"),
+                    Map.entry("getBukkitVersion", args -> "1.20.4-R0.1-SNAPSHOT"),
+                    Map.entry("getPluginManager", args -> pluginManager),
+                    Map.entry("getScheduler", args -> scheduler),
+                    Map.entry("getItemFactory", args -> ITEM_FACTORY),
+                    Map.entry("createInventory", args -> inventory((Integer) args[1])),
+                    Map.entry("getTag", args -> mineableTag((NamespacedKey) args[1])),
+                    Map.entry("getPlayer", args -> args[0] instanceof UUID uuid ? ONLINE.get(uuid) : null),
+                    Map.entry("getOnlinePlayers", args -> List.copyOf(ONLINE.values())),
+                    Map.entry("isPrimaryThread", args -> Thread.currentThread() == mainThread)
+            ));
+            Bukkit.setServer(server);
+        }
+        return server;
+    }
+
+    /**
+     * Routes {@code Bukkit.getScheduler()} to {@code replacement} and treats the calling thread
+     * as the server's main thread; {@code null} restores the no-op scheduler.
+     */
+    public static void useScheduler(BukkitScheduler replacement) {
+        server();
+        scheduler = replacement == null ? NO_OP_SCHEDULER : replacement;
+        mainThread = replacement == null ? null : Thread.currentThread();
+    }
+
+    public static void setOnline(Player player, boolean online) {
+        if (online) {
+            ONLINE.put(player.getUniqueId(), player);
+        } else {
+            ONLINE.remove(player.getUniqueId());
+        }
+    }
+
+    public static Player player(UUID uuid, String name) {
+        server();
+        return proxy(Player.class, Map.of(
+                "getUniqueId", args -> uuid,
+                "getName", args -> name,
+                "isOnline", args -> true
+        ));
+    }
+
+    public static World world(String name) {
+        UUID uid = UUID.nameUUIDFromBytes(name.getBytes());
+        return proxy(World.class, Map.of(
+                "getUID", args -> uid,
+                "getName", args -> name
+        ));
+    }
+
+    /**
+     * Array-backed inventory; {@code setContents} and {@code setItem} store the given stacks
+     * without the copy the server's inventories make.
+     */
+    public static Inventory inventory(int size) {
+        ItemStack[] contents = new ItemStack[size];
+        return proxy(Inventory.class, Map.of(
+                "getSize", args -> size,
+                "getItem", args -> contents[(Integer) args[0]],
+                "setItem", args -> {
+                    contents[(Integer) args[0]] = (ItemStack) args[1];
+                    return null;
+                },
+                "getContents", args -> contents.clone(),
+                "setContents", args -> {
+                    ItemStack[] items = (ItemStack[]) args[0];
+                    System.arraycopy(items, 0, contents, 0, Math.min(items.length, size));
+                    return null;
+                },
+                "clear", args -> {
+                    Arrays.fill(contents, null);
+                    return null;
+                }
+        ));
+    }
+
+    /**
+     * Set-backed stand-in for the MINEABLE block tags; cheaper than the server's registry lookup,
+     * so tag-based baselines measured against it are optimistic.
+     */
+    private static Tag<Material> mineableTag(NamespacedKey key) {
+        Set<Material> values = EnumSet.noneOf(Material.class);
+        for (Material material : Material.values()) {
+            String name = material.name();
+            boolean tagged = switch (key.getKey()) {
+                case "mineable/pickaxe" -> name.endsWith("_ORE") || name.contains("STONE") || name.contains("DEEPSLATE");
+                case "mineable/shovel" -> name.contains("DIRT") || name.contains("SAND") || name.contains("GRAVEL");
+                case "mineable/axe" -> name.endsWith("_LOG") || name.endsWith("_PLANKS") || name.endsWith("_WOOD");
+                default -> false;
+            };
+            if (tagged) {
+                values.add(material);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        Tag<Material> tag = proxy(Tag.class, Map.of(
+                "isTagged", args -> values.contains(args[0]),
+                "getValues", args -> values,
+                "getKey", args -> key
+        ));
+        return tag;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T proxy(Class<T> type, Map<String, Handler> handlers) {
+        InvocationHandler invocation = (instance, method, args) -> {
+            Handler handler = handlers.get(method.getName());
+            if (handler != null) {
+                return handler.handle(args == null ? new Object[0] : args);
+            }
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(instance);
+                case "equals" -> instance == args[0];
+                case "toString" -> type.getSimpleName() + "StandIn";
+                default -> defaultValue(method.getReturnType());
+            };
+        };
+        return (T) Proxy.newProxyInstance(StandIns.class.getClassLoader(), new Class<?>[]{type}, invocation);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Item meta holding only name, lore and flags, which is all the menus set. The server's meta
+     * carries far more state and converts lore to chat components, so item allocations measured
+     * against it are a lower bound.
+     */
+    private static final class MetaState implements InvocationHandler {
+        private String displayName;
+        private List<?> lore;
+        private final Set<ItemFlag> flags = EnumSet.noneOf(ItemFlag.class);
+
+        static ItemMeta create() {
+            return (ItemMeta) Proxy.newProxyInstance(StandIns.class.getClassLoader(), new Class<?>[]{ItemMeta.class}, new MetaState());
+        }
+
+        @Override
+        public Object invoke(Object instance, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "setDisplayName" -> displayName = (String) args[0];
+                case "getDisplayName" -> {
+                    return displayName;
+                }
+                case "setLore" -> lore = args[0] == null ? null : new ArrayList<>((List<?>) args[0]);
+                case "getLore" -> {
+                    return lore == null ? null : Collections.unmodifiableList(lore);
+                }
+                case "addItemFlags" -> flags.addAll(Arrays.asList((ItemFlag[]) args[0]));
+                case "clone" -> {
+                    ItemMeta copy = create();
+                    MetaState state = (MetaState) Proxy.getInvocationHandler(copy);
+                    state.displayName = displayName;
+                    state.lore = lore == null ? null : new ArrayList<>(lore);
+                    state.flags.addAll(flags);
+                    return copy;
+                }
+                case "equals" -> {
+                    return args[0] instanceof ItemMeta other && Proxy.isProxyClass(other.getClass())
+                            && Proxy.getInvocationHandler(other) instanceof MetaState state
+                            && Objects.equals(displayName, state.displayName) && Objects.equals(lore, state.lore)
+                            && flags.equals(state.flags);
+                }
+                case "hashCode" -> {
+                    return Objects.hash(displayName, lore, flags);
+                }
+                case "toString" -> {
+                    return "ItemMetaStandIn";
+                }
+                default -> {
+                    return defaultValue(method.getReturnType());
+                }
+            }
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+        Object handle(Object[] args);
+    }
+}
@@ -0,0 +1,110 @@
+package com.avertox.questsystem.bench;
+
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Single-threaded stand-in for the server scheduler. Tasks may be submitted from any thread and
+ * run on whichever thread calls {@link #tick()}; as on the server, a delay of 0 means the next tick.
+ * Covers {@code runTask}, {@code runTaskLater} and {@code runTaskTimer}, the only calls the plugin makes.
+ */
+final class TickScheduler {
+    private static final Logger LOGGER = Logger.getLogger("AvertoxQuestSystem-bench");
+
+    private final Queue<Entry> incoming = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(
+            Comparator.comparingLong((Entry entry) -> entry.dueTick).thenComparingInt(entry -> entry.id));
+    private final AtomicInteger ids = new AtomicInteger();
+    private final BukkitScheduler bukkitScheduler;
+    private volatile long currentTick;
+    private long failures;
+
+    TickScheduler() {
+        this.bukkitScheduler = StandIns.proxy(BukkitScheduler.class, Map.of(
+                "runTask", args -> schedule(args[1], 0L, 0L),
+                "runTaskLater", args -> schedule(args[1], (Long) args[2], 0L),
+                "runTaskTimer", args -> schedule(args[1], (Long) args[2], (Long) args[3])
+        ));
+    }
+
+    BukkitScheduler asBukkitScheduler() {
+        return bukkitScheduler;
+    }
+
+    /**
+     * Advances one tick and runs every task due by it. Failing tasks are logged and counted, not rethrown.
+     */
+    int tick() {
+        long tick = ++currentTick;
+        Entry submitted;
+        while ((submitted = incoming.poll()) != null) {
+            queue.add(submitted);
+        }
+        int ran = 0;
+        while (!queue.isEmpty() && queue.peek().dueTick <= tick) {
+            Entry entry = queue.poll();
+            if (entry.cancelled) {
+                continue;
+            }
+            try {
+                entry.task.run();
+            } catch (RuntimeException ex) {
+                if (failures++ == 0L) {
+                    LOGGER.log(Level.WARNING, "Scheduled task failed; further failures are only counted", ex);
+                }
+            }
+            ran++;
+            if (entry.period > 0L && !entry.cancelled) {
+                entry.dueTick = tick + entry.period;
+                queue.add(entry);
+            }
+        }
+        return ran;
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    long failures() {
+        return failures;
+    }
+
+    private BukkitTask schedule(Object task, long delay, long period) {
+        if (!(task instanceof Runnable runnable)) {
+            throw new UnsupportedOperationException("Only Runnable tasks are supported, got " + task);
+        }
+        Entry entry = new Entry(ids.incrementAndGet(), runnable, currentTick + Math.max(1L, delay), Math.max(0L, period));
+        incoming.add(entry);
+        return StandIns.proxy(BukkitTask.class, Map.of(
+                "cancel", args -> entry.cancelled = true,
+                "isCancelled", args -> entry.cancelled,
+                "getTaskId", args -> entry.id,
+                "isSync", args -> true
+        ));
+    }
+
+    private static final class Entry {
+        private final int id;
+        private final Runnable task;
+        private final long period;
+        private long dueTick;
+        private volatile boolean cancelled;
+
+        private Entry(int id, Runnable task, long dueTick, long period) {
+            this.id = id;
+            this.task = task;
+            this.dueTick = dueTick;
+            this.period = period;
+        }
+    }
+}
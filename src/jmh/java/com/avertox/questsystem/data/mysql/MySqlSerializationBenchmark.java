@@ -0,0 +1,99 @@
+package com.avertox.questsystem.data.mysql;
+
+import com.avertox.questsystem.bench.BenchFixtures;
+import com.avertox.questsystem.bench.StandIns;
+import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.PlayerQuestState;
+import com.avertox.questsystem.model.ProfileSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQL save path up to the driver: diffing a snapshot against the last persisted state and
+ * binding the resulting statements into a {@link ProfileBatchWriter}. The JDBC connection is a
+ * no-op stand-in, so round trips are excluded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MySqlSerializationBenchmark {
+    @Param({"3", "27"})
+    public int questsPerPlayer;
+
+    @Param({"0", "60"})
+    public int historyEntries;
+
+    private String uuid;
+    private ProfileSnapshot baseline;
+    private ProfileSnapshot oneQuestChanged;
+    private PersistedProfile persisted;
+    private ProfileBatchWriter writer;
+
+    @Setup
+    public void setUp() throws SQLException {
+        UUID id = UUID.randomUUID();
+        uuid = id.toString();
+        PlayerQuestProfile profile = BenchFixtures.profile(id, BenchFixtures.quests(questsPerPlayer), historyEntries);
+        baseline = profile.snapshot();
+        PlayerQuestState first = profile.questStates().values().iterator().next();
+        first.increment(1);
+        profile.markModified();
+        oneQuestChanged = profile.snapshot();
+
+        persisted = new PersistedProfile();
+        persisted.record(baseline);
+
+        PreparedStatement statement = StandIns.proxy(PreparedStatement.class, Map.of());
+        Connection connection = StandIns.proxy(Connection.class, Map.of("prepareStatement", args -> statement));
+        writer = new ProfileBatchWriter(connection);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        writer.close();
+    }
+
+    // Delta is package-private, so it is consumed here rather than returned to generated code.
+    @Benchmark
+    public void diffOneQuestChanged(Blackhole blackhole) {
+        blackhole.consume(persisted.diff(oneQuestChanged));
+    }
+
+    @Benchmark
+    public void diffFullRewrite(Blackhole blackhole) {
+        blackhole.consume(new PersistedProfile().diff(baseline));
+    }
+
+    @Benchmark
+    public void bindOneQuestChanged() throws SQLException {
+        writer.add(uuid, persisted.diff(oneQuestChanged));
+        writer.execute();
+    }
+
+    @Benchmark
+    public void bindFullRewrite() throws SQLException {
+        writer.add(uuid, new PersistedProfile().diff(baseline));
+        writer.execute();
+    }
+}
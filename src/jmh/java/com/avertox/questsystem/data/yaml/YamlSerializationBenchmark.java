@@ -0,0 +1,65 @@
+package com.avertox.questsystem.data.yaml;
+
+import com.avertox.questsystem.bench.BenchFixtures;
+import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.ProfileSnapshot;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One player's YAML round trip as done per shard file: snapshot to text and text back to a
+ * profile. File I/O is left out so the numbers isolate serialization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class YamlSerializationBenchmark {
+    @Param({"3", "27"})
+    public int questsPerPlayer;
+
+    @Param({"0", "60"})
+    public int historyEntries;
+
+    private UUID uuid;
+    private ProfileSnapshot snapshot;
+    private String serialized;
+
+    @Setup
+    public void setUp() {
+        uuid = UUID.randomUUID();
+        PlayerQuestProfile profile = BenchFixtures.profile(uuid, BenchFixtures.quests(questsPerPlayer), historyEntries);
+        snapshot = profile.snapshot();
+        serialized = write();
+    }
+
+    @Benchmark
+    public String write() {
+        YamlConfiguration yaml = new YamlConfiguration();
+        YamlDataStorage.writeProfile(yaml, snapshot);
+        return yaml.saveToString();
+    }
+
+    @Benchmark
+    public PlayerQuestProfile read() throws InvalidConfigurationException {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.loadFromString(serialized);
+        return YamlDataStorage.readProfile(yaml, uuid);
+    }
+}
@@ -18,6 +18,8 @@ import com.avertox.questsystem.event.EventScheduler;
 import com.avertox.questsystem.gui.MenuManager;
 import com.avertox.questsystem.listener.PlayerConnectionListener;
 import com.avertox.questsystem.listener.QuestProgressListener;
+import com.avertox.questsystem.metrics.PluginMetrics;
+import com.avertox.questsystem.metrics.PrometheusEndpoint;
 import com.avertox.questsystem.model.GlobalEvent;
 import com.avertox.questsystem.quest.Quest;
 import com.avertox.questsystem.quest.QuestManager;
@@ -32,11 +34,14 @@ import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class AvertoxQuestSystemPlugin extends JavaPlugin {
     private MainConfig mainConfig;
+    private PluginMetrics metrics;
+    private PrometheusEndpoint prometheusEndpoint;
     private AsyncExecutor asyncExecutor;
     private StorageManager storageManager;
     private EconomyService economyService;
@@ -59,13 +64,18 @@ public class AvertoxQuestSystemPlugin extends JavaPlugin {
 
     private QuestSystemApi api;
     private BukkitTask autosaveTask;
+    private BukkitTask metricsLogTask;
+    private QuestProgressListener questProgressListener;
 
     @Override
     public void onEnable() {
         this.mainConfig = new MainConfig(this);
-        this.asyncExecutor = new AsyncExecutor(this, 4);
-        this.storageManager = new StorageManager(this, mainConfig, asyncExecutor);
+        this.metrics = new PluginMetrics(samplingEnabled());
+        this.prometheusEndpoint = new PrometheusEndpoint(metrics);
+        this.asyncExecutor = new AsyncExecutor(this, mainConfig, metrics);
+        this.storageManager = new StorageManager(this, mainConfig, asyncExecutor, metrics);
         storageManager.initialize().join();
+        storageManager.startWriteBehind();
 
         this.economyService = new EconomyService(this);
         economyService.setup();
@@ -76,7 +86,7 @@ public class AvertoxQuestSystemPlugin extends JavaPlugin {
         this.questStoryEventBus = new QuestStoryEventBus();
 
         this.eventRegistry = new EventRegistry();
-        this.eventManager = new EventManager(this, mainConfig, storageManager, eventRegistry);
+        this.eventManager = new EventManager(this, mainConfig, storageManager, eventRegistry, metrics);
         this.eventScheduler = new EventScheduler(this, mainConfig, eventManager);
 
         this.questManager = new QuestManager(
@@ -87,10 +97,11 @@ public class AvertoxQuestSystemPlugin extends JavaPlugin {
                 eventManager,
                 questRegistry,
                 questProgressTracker,
-                questStoryEventBus
+                questStoryEventBus,
+                metrics
         );
 
-        this.menuManager = new MenuManager();
+        this.menuManager = new MenuManager(this, mainConfig, metrics);
         questManager.setUpdateNotifier(menuManager::refreshIfOpen);
 
         this.definitionLoader = new DefinitionLoader(this);
@@ -129,11 +140,22 @@ public class AvertoxQuestSystemPlugin extends JavaPlugin {
             autosaveTask.cancel();
             autosaveTask = null;
         }
+        if (metricsLogTask != null) {
+            metricsLogTask.cancel();
+            metricsLogTask = null;
+        }
+        if (prometheusEndpoint != null) {
+            prometheusEndpoint.stop();
+        }
 
         if (eventScheduler != null) {
             eventScheduler.stop();
         }
 
+        if (questProgressListener != null) {
+            questProgressListener.flushBonusDrops();
+        }
+
         if (questManager != null) {
             questManager.stop();
             questManager.saveAll();
@@ -145,7 +167,7 @@ public class AvertoxQuestSystemPlugin extends JavaPlugin {
         }
 
         if (storageManager != null) {
-            storageManager.shutdown();
+            storageManager.shutdown().join();
         }
 
         if (asyncExecutor != null) {
@@ -155,6 +177,13 @@ public class AvertoxQuestSystemPlugin extends JavaPlugin {
 
     public void reloadSystem() {
         mainConfig.reload();
+        metrics.setEnabled(samplingEnabled());
+        scheduleMetricsLog();
+        startPrometheusEndpoint();
+        questManager.reloadResetCalendar();
+        if (questProgressListener != null) {
+            questProgressListener.rebuildToolTable();
+        }
         loadDefinitions();
 
         for (Player player : Bukkit.getOnlinePlayers()) {
@@ -208,13 +237,15 @@ public class AvertoxQuestSystemPlugin extends JavaPlugin {
         PluginManager pm = getServer().getPluginManager();
         pm.registerEvents(menuManager, this);
         pm.registerEvents(new PlayerConnectionListener(questManager, eventManager), this);
-        pm.registerEvents(new QuestProgressListener(questManager, eventManager), this);
+        this.questProgressListener = new QuestProgressListener(this, questManager, eventManager);
+        pm.registerEvents(questProgressListener, this);
+        metrics.gauge("listener.ray_traces", questProgressListener::rayTraceCount);
     }
 
     private void registerCommands() {
         PluginCommand questCmd = getCommand("quest");
         if (questCmd != null) {
-            questCmd.setExecutor(new QuestCommand(this, menuManager, questManager));
+            questCmd.setExecutor(new QuestCommand(this, menuManager, questManager, metrics));
         } else {
             getLogger().warning("Command /quest missing from plugin.yml");
         }
@@ -229,9 +260,46 @@ public class AvertoxQuestSystemPlugin extends JavaPlugin {
 
     private void scheduleAutosave() {
         long period = mainConfig.autosaveSeconds() * 20L;
-        autosaveTask = Bukkit.getScheduler().runTaskTimerAsynchronously(this, () -> {
+        // Runs on the main thread: profiles are snapshotted here and written by the storage executor.
+        autosaveTask = Bukkit.getScheduler().runTaskTimer(this, () -> {
             questManager.saveAll();
             storageManager.saveEventRuntime(eventManager.getRuntimeState());
         }, period, period);
     }
+
+    private void scheduleMetricsLog() {
+        if (metricsLogTask != null) {
+            metricsLogTask.cancel();
+            metricsLogTask = null;
+        }
+        int seconds = mainConfig.metricsLogIntervalSeconds();
+        if (seconds <= 0) {
+            return;
+        }
+        long period = seconds * 20L;
+        metricsLogTask = Bukkit.getScheduler().runTaskTimer(this, () -> {
+            if (metrics.enabled()) {
+                metrics.report().forEach(line -> getLogger().info("[stats] " + line));
+            }
+        }, period, period);
+    }
+
+    private boolean samplingEnabled() {
+        return mainConfig.metricsEnabled() || mainConfig.prometheusEnabled();
+    }
+
+    private void startPrometheusEndpoint() {
+        prometheusEndpoint.stop();
+        if (!mainConfig.prometheusEnabled()) {
+            return;
+        }
+        String host = mainConfig.prometheusHost();
+        int port = mainConfig.prometheusPort();
+        try {
+            prometheusEndpoint.start(host, port);
+            getLogger().info("Serving metrics at http://" + host + ":" + port + "/metrics");
+        } catch (IOException | RuntimeException ex) {
+            getLogger().warning("Could not start the metrics endpoint on " + host + ":" + port + ": " + ex.getMessage());
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.avertox.questsystem.command;
 import com.avertox.questsystem.AvertoxQuestSystemPlugin;
 import com.avertox.questsystem.gui.MenuManager;
 import com.avertox.questsystem.gui.menu.QuestMainMenu;
+import com.avertox.questsystem.metrics.PluginMetrics;
 import com.avertox.questsystem.quest.Quest;
 import com.avertox.questsystem.quest.QuestManager;
 import org.bukkit.Bukkit;
@@ -15,11 +16,13 @@ public class QuestCommand implements CommandExecutor {
     private final AvertoxQuestSystemPlugin plugin;
     private final MenuManager menuManager;
     private final QuestManager questManager;
+    private final PluginMetrics metrics;
 
-    public QuestCommand(AvertoxQuestSystemPlugin plugin, MenuManager menuManager, QuestManager questManager) {
+    public QuestCommand(AvertoxQuestSystemPlugin plugin, MenuManager menuManager, QuestManager questManager, PluginMetrics metrics) {
         this.plugin = plugin;
         this.menuManager = menuManager;
         this.questManager = questManager;
+        this.metrics = metrics;
     }
 
     @Override
@@ -44,6 +47,37 @@ public class QuestCommand implements CommandExecutor {
             return true;
         }
 
+        if (sub.equals("stats")) {
+            if (!sender.hasPermission("avertoxquest.admin")) {
+                sender.sendMessage("§cNo permission.");
+                return true;
+            }
+            String action = args.length >= 2 ? args[1].toLowerCase() : "";
+            switch (action) {
+                case "on" -> {
+                    metrics.setEnabled(true);
+                    sender.sendMessage("§aMetrics sampling enabled until the next reload.");
+                }
+                case "off" -> {
+                    metrics.setEnabled(false);
+                    sender.sendMessage("§aMetrics sampling disabled until the next reload.");
+                }
+                case "reset" -> {
+                    metrics.reset();
+                    sender.sendMessage("§aMetrics reset.");
+                }
+                default -> {
+                    sender.sendMessage(metrics.enabled()
+                            ? "§eQuest system metrics (sampling on):"
+                            : "§eQuest system metrics (sampling off; only gauges are live):");
+                    for (String line : metrics.report()) {
+                        sender.sendMessage("§7" + line);
+                    }
+                }
+            }
+            return true;
+        }
+
         if (sub.equals("add") && args.length >= 3) {
             if (!sender.hasPermission("avertoxquest.admin")) {
                 sender.sendMessage("§cNo permission.");
@@ -70,7 +104,10 @@ public class QuestCommand implements CommandExecutor {
                 sender.sendMessage("§cPlayer not found.");
                 return true;
             }
-            questManager.resetPlayer(target.getUniqueId());
+            if (!questManager.resetPlayer(target.getUniqueId())) {
+                sender.sendMessage("§cQuest profile for " + target.getName() + " is still loading; try again shortly.");
+                return true;
+            }
             sender.sendMessage("§aQuest profile reset for " + target.getName());
             return true;
         }
@@ -111,7 +148,7 @@ public class QuestCommand implements CommandExecutor {
         }
 
         sender.sendMessage("§eUsage: /quest, /quest accept <id>, /quest complete <id>, /quest check <id>");
-        sender.sendMessage("§eAdmin: /quest add <player> <id>, /quest reset <player>, /quest reload");
+        sender.sendMessage("§eAdmin: /quest add <player> <id>, /quest reset <player>, /quest reload, /quest stats [on|off|reset]");
         return true;
     }
 }
@@ -1,11 +1,14 @@
 package com.avertox.questsystem.config;
 
 import com.avertox.questsystem.data.StorageMode;
+import com.avertox.questsystem.util.AsyncOverflowPolicy;
 
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.time.DateTimeException;
 import java.time.DayOfWeek;
+import java.time.ZoneId;
 import java.util.Locale;
 
 public class MainConfig {
@@ -31,6 +34,46 @@ public class MainConfig {
         return Math.max(15, cfg.getInt("storage.autosave_seconds", 60));
     }
 
+    public int writeBehindWindowSeconds() {
+        return Math.max(0, cfg.getInt("storage.write_behind.window_seconds", 10));
+    }
+
+    public int writeBehindBatchSize() {
+        return Math.max(1, cfg.getInt("storage.write_behind.batch_size", 50));
+    }
+
+    public long writeBehindFlushTicks() {
+        return Math.max(20L, cfg.getLong("storage.write_behind.flush_interval_ticks", 40L));
+    }
+
+    public long preloadTimeoutMillis() {
+        return Math.max(0L, cfg.getLong("storage.preload.timeout_millis", 3000L));
+    }
+
+    public int preloadMaxBufferedActions() {
+        return Math.max(0, cfg.getInt("storage.preload.max_buffered_actions", 256));
+    }
+
+    public int offlineCacheSize() {
+        return Math.max(0, cfg.getInt("storage.offline_cache.size", 200));
+    }
+
+    public int offlineCacheTtlSeconds() {
+        return Math.max(0, cfg.getInt("storage.offline_cache.ttl_seconds", 300));
+    }
+
+    public long resetCheckTicks() {
+        return Math.max(20L, cfg.getLong("quests.reset_check_ticks", 100L));
+    }
+
+    public long actionBarIntervalMillis() {
+        return Math.max(0L, cfg.getLong("quests.action_bar_interval_ms", 250L));
+    }
+
+    public long menuRefreshTicks() {
+        return Math.max(1L, cfg.getLong("gui.refresh_debounce_ticks", 10L));
+    }
+
     public int questsPerType() {
         return Math.max(1, cfg.getInt("quests.assignment.per_type", 3));
     }
@@ -48,6 +91,19 @@ public class MainConfig {
         }
     }
 
+    public ZoneId resetZone() {
+        String raw = cfg.getString("quests.assignment.time_zone", "system");
+        if (raw == null || raw.isBlank() || raw.equalsIgnoreCase("system")) {
+            return ZoneId.systemDefault();
+        }
+        try {
+            return ZoneId.of(raw);
+        } catch (DateTimeException ex) {
+            plugin.getLogger().warning("Invalid quests.assignment.time_zone '" + raw + "', using system default.");
+            return ZoneId.systemDefault();
+        }
+    }
+
     public int monthlyResetDays() {
         return Math.max(1, cfg.getInt("quests.assignment.monthly_reset_days", 30));
     }
@@ -123,4 +179,48 @@ public class MainConfig {
     public int mysqlPoolSize() {
         return Math.max(2, cfg.getInt("mysql.pool_size", 10));
     }
+
+    public int mysqlBatchCommitSize() {
+        return Math.max(1, cfg.getInt("mysql.batch_commit_size", 100));
+    }
+
+    public int asyncThreads() {
+        return Math.max(2, cfg.getInt("async.threads", 4));
+    }
+
+    public int asyncQueueCapacity() {
+        return Math.max(16, cfg.getInt("async.queue_capacity", 1024));
+    }
+
+    public AsyncOverflowPolicy asyncOverflowPolicy() {
+        return AsyncOverflowPolicy.from(cfg.getString("async.overflow", "caller_runs"));
+    }
+
+    public long asyncBlockTimeoutMillis() {
+        return Math.max(0L, cfg.getLong("async.block_timeout_millis", 2000L));
+    }
+
+    public long asyncShutdownTimeoutSeconds() {
+        return Math.max(1L, cfg.getLong("async.shutdown_timeout_seconds", 20L));
+    }
+
+    public boolean metricsEnabled() {
+        return cfg.getBoolean("metrics.enabled", false);
+    }
+
+    public int metricsLogIntervalSeconds() {
+        return Math.max(0, cfg.getInt("metrics.log_interval_seconds", 0));
+    }
+
+    public boolean prometheusEnabled() {
+        return cfg.getBoolean("metrics.prometheus.enabled", false);
+    }
+
+    public String prometheusHost() {
+        return cfg.getString("metrics.prometheus.host", "127.0.0.1");
+    }
+
+    public int prometheusPort() {
+        return Math.max(1, Math.min(65535, cfg.getInt("metrics.prometheus.port", 9464)));
+    }
 }
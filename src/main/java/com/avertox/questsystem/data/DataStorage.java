@@ -2,7 +2,9 @@ package com.avertox.questsystem.data;
 
 import com.avertox.questsystem.model.EventRuntimeState;
 import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.ProfileSnapshot;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -12,7 +14,12 @@ public interface DataStorage {
 
     CompletableFuture<PlayerQuestProfile> loadPlayerProfile(UUID uuid);
 
-    CompletableFuture<Void> savePlayerProfile(PlayerQuestProfile profile);
+    CompletableFuture<Void> savePlayerProfile(ProfileSnapshot profile);
+
+    CompletableFuture<Void> saveProfiles(Collection<ProfileSnapshot> profiles);
+
+    default void releaseProfile(UUID uuid) {
+    }
 
     CompletableFuture<EventRuntimeState> loadEventRuntime();
 
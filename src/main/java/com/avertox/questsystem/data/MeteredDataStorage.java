@@ -0,0 +1,121 @@
+package com.avertox.questsystem.data;
+
+import com.avertox.questsystem.metrics.PluginMetrics;
+import com.avertox.questsystem.metrics.Timer;
+import com.avertox.questsystem.model.EventRuntimeState;
+import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.ProfileSnapshot;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Times every {@link DataStorage} call from submission to completion, so async backends report
+ * queueing plus I/O. Timers carry a {@code backend} label; the returned futures are the delegate's own.
+ */
+class MeteredDataStorage implements DataStorage {
+    private final DataStorage delegate;
+    private final Timer initialize;
+    private final Timer loadProfile;
+    private final Timer saveProfile;
+    private final Timer saveProfiles;
+    private final Timer releaseProfile;
+    private final Timer loadEventRuntime;
+    private final Timer saveEventRuntime;
+    private final Timer loadQuestDefinitions;
+    private final Timer saveQuestDefinitions;
+    private final Timer loadEventDefinitions;
+    private final Timer saveEventDefinitions;
+    private final Timer close;
+
+    MeteredDataStorage(DataStorage delegate, PluginMetrics metrics, String backend) {
+        this.delegate = delegate;
+        this.initialize = metrics.timer(name("initialize", backend));
+        this.loadProfile = metrics.timer(name("load_profile", backend));
+        this.saveProfile = metrics.timer(name("save_profile", backend));
+        this.saveProfiles = metrics.timer(name("save_profiles", backend));
+        this.releaseProfile = metrics.timer(name("release_profile", backend));
+        this.loadEventRuntime = metrics.timer(name("load_event_runtime", backend));
+        this.saveEventRuntime = metrics.timer(name("save_event_runtime", backend));
+        this.loadQuestDefinitions = metrics.timer(name("load_quest_definitions", backend));
+        this.saveQuestDefinitions = metrics.timer(name("save_quest_definitions", backend));
+        this.loadEventDefinitions = metrics.timer(name("load_event_definitions", backend));
+        this.saveEventDefinitions = metrics.timer(name("save_event_definitions", backend));
+        this.close = metrics.timer(name("close", backend));
+    }
+
+    @Override
+    public CompletableFuture<Void> initialize() {
+        return timed(initialize, initialize.start(), delegate.initialize());
+    }
+
+    @Override
+    public CompletableFuture<PlayerQuestProfile> loadPlayerProfile(UUID uuid) {
+        return timed(loadProfile, loadProfile.start(), delegate.loadPlayerProfile(uuid));
+    }
+
+    @Override
+    public CompletableFuture<Void> savePlayerProfile(ProfileSnapshot profile) {
+        return timed(saveProfile, saveProfile.start(), delegate.savePlayerProfile(profile));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveProfiles(Collection<ProfileSnapshot> profiles) {
+        return timed(saveProfiles, saveProfiles.start(), delegate.saveProfiles(profiles));
+    }
+
+    @Override
+    public void releaseProfile(UUID uuid) {
+        long start = releaseProfile.start();
+        delegate.releaseProfile(uuid);
+        releaseProfile.stop(start);
+    }
+
+    @Override
+    public CompletableFuture<EventRuntimeState> loadEventRuntime() {
+        return timed(loadEventRuntime, loadEventRuntime.start(), delegate.loadEventRuntime());
+    }
+
+    @Override
+    public CompletableFuture<Void> saveEventRuntime(EventRuntimeState state) {
+        return timed(saveEventRuntime, saveEventRuntime.start(), delegate.saveEventRuntime(state));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Map<String, Object>>> loadQuestDefinitions() {
+        return timed(loadQuestDefinitions, loadQuestDefinitions.start(), delegate.loadQuestDefinitions());
+    }
+
+    @Override
+    public CompletableFuture<Void> saveQuestDefinitions(Map<String, Map<String, Object>> definitions) {
+        return timed(saveQuestDefinitions, saveQuestDefinitions.start(), delegate.saveQuestDefinitions(definitions));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Map<String, Object>>> loadEventDefinitions() {
+        return timed(loadEventDefinitions, loadEventDefinitions.start(), delegate.loadEventDefinitions());
+    }
+
+    @Override
+    public CompletableFuture<Void> saveEventDefinitions(Map<String, Map<String, Object>> definitions) {
+        return timed(saveEventDefinitions, saveEventDefinitions.start(), delegate.saveEventDefinitions(definitions));
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        return timed(close, close.start(), delegate.close());
+    }
+
+    private static String name(String operation, String backend) {
+        return "storage." + operation + "{backend=\"" + backend + "\"}";
+    }
+
+    private static <T> CompletableFuture<T> timed(Timer timer, long start, CompletableFuture<T> future) {
+        if (Timer.isSampled(start)) {
+            future.whenComplete((ignored, error) -> timer.stop(start));
+        }
+        return future;
+    }
+}
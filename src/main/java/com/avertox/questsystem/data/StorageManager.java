@@ -3,38 +3,126 @@ package com.avertox.questsystem.data;
 import com.avertox.questsystem.config.MainConfig;
 import com.avertox.questsystem.data.mysql.MySqlDataStorage;
 import com.avertox.questsystem.data.yaml.YamlDataStorage;
+import com.avertox.questsystem.metrics.PluginMetrics;
 import com.avertox.questsystem.model.EventRuntimeState;
 import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.ProfileSnapshot;
 import com.avertox.questsystem.util.AsyncExecutor;
+import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class StorageManager {
+    private static final long SHUTDOWN_FLUSH_TIMEOUT_SECONDS = 15L;
+
     private final JavaPlugin plugin;
     private final MainConfig config;
     private final AsyncExecutor async;
+    private final PluginMetrics metrics;
+    private final Map<UUID, DirtyProfile> dirtyProfiles = new ConcurrentHashMap<>();
+    private final Map<UUID, SavedVersion> savedVersions = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<Void>> pendingWrites = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<EventRuntimeState> deferredEventRuntime = new AtomicReference<>();
     private DataStorage delegate;
+    private BukkitTask flushTask;
 
-    public StorageManager(JavaPlugin plugin, MainConfig config, AsyncExecutor async) {
+    public StorageManager(JavaPlugin plugin, MainConfig config, AsyncExecutor async, PluginMetrics metrics) {
         this.plugin = plugin;
         this.config = config;
         this.async = async;
+        this.metrics = metrics;
+        metrics.gauge("storage.dirty_profiles", this::dirtyCount);
+        metrics.gauge("storage.pending_writes", this::pendingWriteCount);
     }
 
     public CompletableFuture<Void> initialize() {
-        this.delegate = buildDelegate();
+        this.delegate = new MeteredDataStorage(buildDelegate(), metrics, config.storageMode().name().toLowerCase(Locale.ROOT));
         return delegate.initialize();
     }
 
+    public void startWriteBehind() {
+        stopWriteBehind();
+        long period = config.writeBehindFlushTicks();
+        flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flushDue, period, period);
+    }
+
+    public void stopWriteBehind() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+    }
+
     public CompletableFuture<PlayerQuestProfile> loadPlayerProfile(UUID uuid) {
         return delegate.loadPlayerProfile(uuid);
     }
 
     public CompletableFuture<Void> savePlayerProfile(PlayerQuestProfile profile) {
-        return delegate.savePlayerProfile(profile);
+        dirtyProfiles.remove(profile.uuid());
+        return saveBatch(List.of(profile));
+    }
+
+    public void markDirty(PlayerQuestProfile profile) {
+        if (profile == null) {
+            return;
+        }
+        profile.markModified();
+        DirtyProfile current = dirtyProfiles.get(profile.uuid());
+        if (current != null && current.profile() == profile) {
+            return;
+        }
+        long since = current == null ? System.currentTimeMillis() : current.dirtySince();
+        dirtyProfiles.put(profile.uuid(), new DirtyProfile(profile, since));
+    }
+
+    public boolean isDirty(UUID uuid) {
+        return dirtyProfiles.containsKey(uuid);
+    }
+
+    public int dirtyCount() {
+        return dirtyProfiles.size();
+    }
+
+    public int pendingWriteCount() {
+        return pendingWrites.size();
+    }
+
+    public CompletableFuture<Void> flushProfile(PlayerQuestProfile profile) {
+        if (profile == null || !isDirty(profile.uuid())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return savePlayerProfile(profile);
+    }
+
+    public void releaseProfile(UUID uuid) {
+        savedVersions.remove(uuid);
+        delegate.releaseProfile(uuid);
+    }
+
+    public CompletableFuture<Void> flushDirty() {
+        List<PlayerQuestProfile> batch = new ArrayList<>(dirtyProfiles.size());
+        Iterator<DirtyProfile> iterator = dirtyProfiles.values().iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next().profile());
+            iterator.remove();
+        }
+        return saveBatch(batch);
     }
 
     public CompletableFuture<EventRuntimeState> loadEventRuntime() {
@@ -42,7 +130,15 @@ public class StorageManager {
     }
 
     public CompletableFuture<Void> saveEventRuntime(EventRuntimeState state) {
-        return delegate.saveEventRuntime(state);
+        deferredEventRuntime.set(null);
+        CompletableFuture<Void> write = delegate.saveEventRuntime(state);
+        write.whenComplete((ignored, error) -> {
+            if (isDeferred(error)) {
+                // Kept off the main thread while the executor is full; the next flush sends it.
+                deferredEventRuntime.compareAndSet(null, state);
+            }
+        });
+        return track(write);
     }
 
     public CompletableFuture<Map<String, Map<String, Object>>> loadQuestDefinitions() {
@@ -50,7 +146,7 @@ public class StorageManager {
     }
 
     public CompletableFuture<Void> saveQuestDefinitions(Map<String, Map<String, Object>> definitions) {
-        return delegate.saveQuestDefinitions(definitions);
+        return track(logFailure(delegate.saveQuestDefinitions(definitions), "quest definitions"));
     }
 
     public CompletableFuture<Map<String, Map<String, Object>>> loadEventDefinitions() {
@@ -58,13 +154,22 @@ public class StorageManager {
     }
 
     public CompletableFuture<Void> saveEventDefinitions(Map<String, Map<String, Object>> definitions) {
-        return delegate.saveEventDefinitions(definitions);
+        return track(logFailure(delegate.saveEventDefinitions(definitions), "event definitions"));
     }
 
     public CompletableFuture<Void> shutdown() {
+        stopWriteBehind();
         if (delegate == null) {
             return CompletableFuture.completedFuture(null);
         }
+        flushDirty();
+        awaitPendingWrites();
+        if (dirtyCount() > 0 || deferredEventRuntime.get() != null) {
+            // Second pass for writes deferred (or failed) while the executor was full; it has drained by now.
+            retryDeferredEventRuntime();
+            flushDirty();
+            awaitPendingWrites();
+        }
         return delegate.close();
     }
 
@@ -72,12 +177,147 @@ public class StorageManager {
         return config.storageMode();
     }
 
+    private void flushDue() {
+        if (async != null && async.isSaturated()) {
+            // Leave profiles dirty while the executor is backed up; they keep coalescing and go out once it drains.
+            return;
+        }
+        retryDeferredEventRuntime();
+        long now = System.currentTimeMillis();
+        long window = TimeUnit.SECONDS.toMillis(config.writeBehindWindowSeconds());
+        int budget = config.writeBehindBatchSize();
+
+        List<PlayerQuestProfile> batch = new ArrayList<>();
+        Iterator<DirtyProfile> iterator = dirtyProfiles.values().iterator();
+        while (iterator.hasNext() && batch.size() < budget) {
+            DirtyProfile dirty = iterator.next();
+            if (now - dirty.dirtySince() < window) {
+                continue;
+            }
+            iterator.remove();
+            batch.add(dirty.profile());
+        }
+        saveBatch(batch);
+    }
+
+    /**
+     * Writes one snapshot per profile, skipping profiles whose current version is already stored.
+     * Versions are recorded only once the backend reports success; on failure every profile in the
+     * batch is queued again so the next flush retries it.
+     */
+    private CompletableFuture<Void> saveBatch(List<PlayerQuestProfile> batch) {
+        List<PlayerQuestProfile> written = new ArrayList<>(batch.size());
+        List<ProfileSnapshot> snapshots = new ArrayList<>(batch.size());
+        for (PlayerQuestProfile profile : batch) {
+            ProfileSnapshot snapshot = profile.snapshot();
+            SavedVersion saved = savedVersions.get(snapshot.uuid());
+            if (saved != null && saved.profile() == profile && saved.version() == snapshot.version()) {
+                continue;
+            }
+            written.add(profile);
+            snapshots.add(snapshot);
+        }
+        if (snapshots.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> write = delegate.saveProfiles(snapshots);
+        write.whenComplete((ignored, error) -> {
+            if (error != null) {
+                written.forEach(this::requeue);
+                if (!isDeferred(error)) {
+                    plugin.getLogger().warning("Failed saving " + snapshots.size() + " player profile(s), will retry: "
+                            + rootMessage(error));
+                }
+                return;
+            }
+            for (int i = 0; i < written.size(); i++) {
+                recordSaved(written.get(i), snapshots.get(i).version());
+            }
+        });
+        return track(write);
+    }
+
+    private void recordSaved(PlayerQuestProfile profile, long version) {
+        // Identity check: a reloaded profile is a new object whose version restarts, so never trust another's entry.
+        savedVersions.merge(profile.uuid(), new SavedVersion(profile, version),
+                (current, next) -> current.profile() == next.profile() && current.version() > next.version() ? current : next);
+    }
+
+    private void requeue(PlayerQuestProfile profile) {
+        dirtyProfiles.putIfAbsent(profile.uuid(), new DirtyProfile(profile, System.currentTimeMillis()));
+    }
+
+    private void retryDeferredEventRuntime() {
+        EventRuntimeState state = deferredEventRuntime.getAndSet(null);
+        if (state != null) {
+            saveEventRuntime(state);
+        }
+    }
+
+    private CompletableFuture<Void> logFailure(CompletableFuture<Void> write, String what) {
+        write.whenComplete((ignored, error) -> {
+            if (error != null) {
+                plugin.getLogger().warning("Failed saving " + what + "; they are saved again on the next reload: "
+                        + rootMessage(error));
+            }
+        });
+        return write;
+    }
+
+    /**
+     * True if the executor turned a main-thread write away because its queue was full.
+     */
+    private static boolean isDeferred(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RejectedExecutionException;
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private void awaitPendingWrites() {
+        CompletableFuture<Void> all = CompletableFuture.allOf(pendingWrites.toArray(new CompletableFuture[0]));
+        try {
+            all.get(SHUTDOWN_FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException ex) {
+            plugin.getLogger().warning("Storage writes failed during shutdown; " + dirtyCount() + " profile(s) left unsaved.");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException ex) {
+            plugin.getLogger().warning("Timed out waiting for " + pendingWrites.size() + " pending storage writes.");
+        }
+    }
+
+    private CompletableFuture<Void> track(CompletableFuture<Void> write) {
+        pendingWrites.add(write);
+        write.whenComplete((ignored, error) -> pendingWrites.remove(write));
+        return write;
+    }
+
     private DataStorage buildDelegate() {
         if (config.storageMode() == StorageMode.MYSQL) {
             plugin.getLogger().info("Storage backend: MySQL");
             return new MySqlDataStorage(plugin, config, async);
         }
+        if (config.storageMode() == StorageMode.YAML_SHARDED) {
+            plugin.getLogger().info("Storage backend: YAML (per-player files)");
+            return new YamlDataStorage(plugin, async, true);
+        }
         plugin.getLogger().info("Storage backend: YAML");
-        return new YamlDataStorage(plugin, async);
+        return new YamlDataStorage(plugin, async, false);
+    }
+
+    private record DirtyProfile(PlayerQuestProfile profile, long dirtySince) {
+    }
+
+    private record SavedVersion(PlayerQuestProfile profile, long version) {
     }
 }
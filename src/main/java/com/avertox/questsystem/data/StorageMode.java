@@ -2,6 +2,7 @@ package com.avertox.questsystem.data;
 
 public enum StorageMode {
     YAML,
+    YAML_SHARDED,
     MYSQL;
 
     public static StorageMode from(String raw) {
@@ -11,6 +12,9 @@ public enum StorageMode {
         if (raw.equalsIgnoreCase("mysql")) {
             return MYSQL;
         }
+        if (raw.equalsIgnoreCase("yaml_sharded") || raw.equalsIgnoreCase("yaml-sharded")) {
+            return YAML_SHARDED;
+        }
         return YAML;
     }
 }
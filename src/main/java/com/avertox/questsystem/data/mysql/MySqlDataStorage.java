@@ -7,6 +7,9 @@ import com.google.gson.reflect.TypeToken;
 import com.avertox.questsystem.model.EventRuntimeState;
 import com.avertox.questsystem.model.PlayerQuestProfile;
 import com.avertox.questsystem.model.PlayerQuestState;
+import com.avertox.questsystem.model.ProfileSnapshot;
+import com.avertox.questsystem.model.QuestHistoryEntry;
+import com.avertox.questsystem.model.QuestHistoryStatus;
 import com.avertox.questsystem.model.QuestType;
 import com.avertox.questsystem.util.AsyncExecutor;
 import com.zaxxer.hikari.HikariConfig;
@@ -17,17 +20,26 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MySqlDataStorage implements DataStorage {
     private static final Gson GSON = new Gson();
+    private static final String HISTORY_INDEX = "idx_history_uuid_completed";
 
     private final JavaPlugin plugin;
     private final MainConfig config;
     private final AsyncExecutor async;
+    private final Map<UUID, PersistedProfile> persistedProfiles = new ConcurrentHashMap<>();
+    private final Object profileWriteLock = new Object();
     private HikariDataSource dataSource;
 
     public MySqlDataStorage(JavaPlugin plugin, MainConfig config, AsyncExecutor async) {
@@ -59,43 +71,44 @@ public class MySqlDataStorage implements DataStorage {
                 return profile;
             }
 
-            try (Connection connection = dataSource.getConnection()) {
-                loadMeta(connection, profile);
-                loadQuestStates(connection, profile);
-                loadHistory(connection, profile);
-            } catch (SQLException ex) {
-                plugin.getLogger().warning("Failed loading player profile " + uuid + ": " + ex.getMessage());
+            PersistedProfile persisted = persistedProfiles.computeIfAbsent(uuid, ignored -> new PersistedProfile());
+            synchronized (persisted) {
+                try (Connection connection = dataSource.getConnection()) {
+                    loadMeta(connection, profile);
+                    loadQuestStates(connection, profile);
+                    loadHistory(connection, profile);
+                    persisted.record(profile.snapshot());
+                } catch (SQLException ex) {
+                    persistedProfiles.remove(uuid);
+                    plugin.getLogger().warning("Failed loading player profile " + uuid + ": " + ex.getMessage());
+                }
             }
             return profile;
         });
     }
 
     @Override
-    public CompletableFuture<Void> savePlayerProfile(PlayerQuestProfile profile) {
-        return async.run(() -> {
-            if (dataSource == null) {
+    public CompletableFuture<Void> savePlayerProfile(ProfileSnapshot profile) {
+        return saveProfiles(List.of(profile));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveProfiles(Collection<ProfileSnapshot> profiles) {
+        return async.runDeferrable(() -> {
+            if (dataSource == null || profiles.isEmpty()) {
                 return;
             }
-
-            try (Connection connection = dataSource.getConnection()) {
-                connection.setAutoCommit(false);
-                try {
-                    saveMeta(connection, profile);
-                    saveQuestStates(connection, profile);
-                    saveHistory(connection, profile);
-                    connection.commit();
-                } catch (SQLException ex) {
-                    connection.rollback();
-                    throw ex;
-                } finally {
-                    connection.setAutoCommit(true);
-                }
-            } catch (SQLException ex) {
-                plugin.getLogger().warning("Failed saving player profile " + profile.uuid() + ": " + ex.getMessage());
+            synchronized (profileWriteLock) {
+                writeProfiles(profiles);
             }
         });
     }
 
+    @Override
+    public void releaseProfile(UUID uuid) {
+        persistedProfiles.remove(uuid);
+    }
+
     @Override
     public CompletableFuture<EventRuntimeState> loadEventRuntime() {
         return async.supply(() -> {
@@ -131,7 +144,7 @@ public class MySqlDataStorage implements DataStorage {
 
     @Override
     public CompletableFuture<Void> saveEventRuntime(EventRuntimeState state) {
-        return async.run(() -> {
+        return async.runDeferrable(() -> {
             if (dataSource == null) {
                 return;
             }
@@ -227,7 +240,11 @@ public class MySqlDataStorage implements DataStorage {
         String questHistory = "CREATE TABLE IF NOT EXISTS player_quest_history ("
                 + "uuid VARCHAR(36) NOT NULL,"
                 + "entry_value VARCHAR(255) NOT NULL,"
-                + "completed_at BIGINT NOT NULL"
+                + "quest_id VARCHAR(96),"
+                + "title VARCHAR(255),"
+                + "status VARCHAR(16),"
+                + "completed_at BIGINT NOT NULL,"
+                + "INDEX " + HISTORY_INDEX + " (uuid, completed_at)"
                 + ")";
 
         String events = "CREATE TABLE IF NOT EXISTS events ("
@@ -267,11 +284,51 @@ public class MySqlDataStorage implements DataStorage {
             ps5.executeUpdate();
             ps6.executeUpdate();
             ps7.executeUpdate();
+            addHistoryColumns(connection);
         } catch (SQLException ex) {
             plugin.getLogger().warning("Failed creating MySQL tables: " + ex.getMessage());
         }
     }
 
+    private void addHistoryColumns(Connection connection) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        try (ResultSet rs = connection.getMetaData().getColumns(connection.getCatalog(), null, "player_quest_history", null)) {
+            while (rs.next()) {
+                existing.add(rs.getString("COLUMN_NAME").toLowerCase());
+            }
+        }
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put("quest_id", "VARCHAR(96)");
+        columns.put("title", "VARCHAR(255)");
+        columns.put("status", "VARCHAR(16)");
+        for (Map.Entry<String, String> column : columns.entrySet()) {
+            if (existing.contains(column.getKey())) {
+                continue;
+            }
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "ALTER TABLE player_quest_history ADD COLUMN " + column.getKey() + " " + column.getValue()
+            )) {
+                ps.executeUpdate();
+            }
+        }
+        addHistoryIndex(connection);
+    }
+
+    private void addHistoryIndex(Connection connection) throws SQLException {
+        try (ResultSet rs = connection.getMetaData().getIndexInfo(connection.getCatalog(), null, "player_quest_history", false, false)) {
+            while (rs.next()) {
+                if (HISTORY_INDEX.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                    return;
+                }
+            }
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+                "CREATE INDEX " + HISTORY_INDEX + " ON player_quest_history (uuid, completed_at)"
+        )) {
+            ps.executeUpdate();
+        }
+    }
+
     private CompletableFuture<Map<String, Map<String, Object>>> loadDefinitionTable(String table) {
         return async.supply(() -> {
             Map<String, Map<String, Object>> output = new LinkedHashMap<>();
@@ -300,7 +357,7 @@ public class MySqlDataStorage implements DataStorage {
     }
 
     private CompletableFuture<Void> saveDefinitionTable(String table, Map<String, Map<String, Object>> definitions) {
-        return async.run(() -> {
+        return async.runDeferrable(() -> {
             if (dataSource == null) {
                 return;
             }
@@ -382,75 +439,79 @@ public class MySqlDataStorage implements DataStorage {
     }
 
     private void loadHistory(Connection connection, PlayerQuestProfile profile) throws SQLException {
+        List<QuestHistoryEntry> newestFirst = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(
-                "SELECT entry_value FROM player_quest_history WHERE uuid=? ORDER BY completed_at DESC LIMIT 60"
+                "SELECT entry_value, quest_id, title, status, completed_at FROM player_quest_history "
+                        + "WHERE uuid=? ORDER BY completed_at DESC LIMIT " + PlayerQuestProfile.HISTORY_CAPACITY
         )) {
             ps.setString(1, profile.uuid().toString());
             ResultSet rs = ps.executeQuery();
             while (rs.next()) {
-                profile.addHistory(rs.getString("entry_value"));
+                String questId = rs.getString("quest_id");
+                long completedAt = rs.getLong("completed_at");
+                QuestHistoryEntry entry = questId == null
+                        ? QuestHistoryEntry.parseLegacy(rs.getString("entry_value"), completedAt)
+                        : new QuestHistoryEntry(questId, rs.getString("title"), completedAt, QuestHistoryStatus.parse(rs.getString("status")));
+                if (entry != null) {
+                    newestFirst.add(entry);
+                }
             }
         }
-    }
-
-    private void saveMeta(Connection connection, PlayerQuestProfile profile) throws SQLException {
-        try (PreparedStatement ps = connection.prepareStatement(
-                "REPLACE INTO player_quest_meta(uuid, last_daily_reset, last_weekly_reset, last_monthly_reset) VALUES (?,?,?,?)"
-        )) {
-            ps.setString(1, profile.uuid().toString());
-            ps.setLong(2, profile.lastDailyReset());
-            ps.setLong(3, profile.lastWeeklyReset());
-            ps.setLong(4, profile.lastMonthlyReset());
-            ps.executeUpdate();
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            profile.addHistory(newestFirst.get(i));
         }
     }
 
-    private void saveQuestStates(Connection connection, PlayerQuestProfile profile) throws SQLException {
-        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM player_quests WHERE uuid=?")) {
-            delete.setString(1, profile.uuid().toString());
-            delete.executeUpdate();
-        }
-
-        try (PreparedStatement insert = connection.prepareStatement(
-                "INSERT INTO player_quests(uuid, quest_id, quest_type, progress, target, completed, claimed, assigned_at, completed_at, expires_at, last_reset) "
-                        + "VALUES (?,?,?,?,?,?,?,?,?,?,?)"
-        )) {
-            for (PlayerQuestState state : profile.questStates().values()) {
-                insert.setString(1, profile.uuid().toString());
-                insert.setString(2, state.questId());
-                insert.setString(3, state.questType().name());
-                insert.setInt(4, state.progress());
-                insert.setInt(5, state.target());
-                insert.setBoolean(6, state.completed());
-                insert.setBoolean(7, state.claimed());
-                insert.setLong(8, state.assignedAt());
-                insert.setLong(9, state.completedAt());
-                insert.setLong(10, state.expiresAt());
-                insert.setLong(11, state.lastReset());
-                insert.addBatch();
+    private void writeProfiles(Collection<ProfileSnapshot> profiles) {
+        int commitSize = config.mysqlBatchCommitSize();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (ProfileBatchWriter writer = new ProfileBatchWriter(connection)) {
+                List<StagedDelta> staged = new ArrayList<>();
+                for (ProfileSnapshot profile : profiles) {
+                    PersistedProfile persisted = persistedProfiles.computeIfAbsent(profile.uuid(), ignored -> new PersistedProfile());
+                    PersistedProfile.Delta delta;
+                    synchronized (persisted) {
+                        delta = persisted.diff(profile);
+                    }
+                    if (delta.isEmpty()) {
+                        continue;
+                    }
+                    writer.add(profile.uuid().toString(), delta);
+                    staged.add(new StagedDelta(persisted, delta));
+                    if (staged.size() >= commitSize) {
+                        commitStaged(connection, writer, staged);
+                    }
+                }
+                commitStaged(connection, writer, staged);
+            } finally {
+                connection.setAutoCommit(true);
             }
-            insert.executeBatch();
+        } catch (SQLException ex) {
+            // Fail the future so StorageManager keeps the profiles dirty and retries them.
+            throw new IllegalStateException("MySQL write of " + profiles.size() + " profile(s) failed: " + ex.getMessage(), ex);
         }
     }
 
-    private void saveHistory(Connection connection, PlayerQuestProfile profile) throws SQLException {
-        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM player_quest_history WHERE uuid=?")) {
-            delete.setString(1, profile.uuid().toString());
-            delete.executeUpdate();
+    private void commitStaged(Connection connection, ProfileBatchWriter writer, List<StagedDelta> staged) throws SQLException {
+        if (staged.isEmpty()) {
+            return;
         }
-
-        try (PreparedStatement insert = connection.prepareStatement(
-                "INSERT INTO player_quest_history(uuid, entry_value, completed_at) VALUES (?,?,?)"
-        )) {
-            long now = System.currentTimeMillis();
-            int index = 0;
-            for (String entry : profile.history()) {
-                insert.setString(1, profile.uuid().toString());
-                insert.setString(2, entry);
-                insert.setLong(3, now - index++);
-                insert.addBatch();
+        try {
+            writer.execute();
+            connection.commit();
+        } catch (SQLException ex) {
+            connection.rollback();
+            throw ex;
+        }
+        for (StagedDelta entry : staged) {
+            synchronized (entry.persisted()) {
+                entry.persisted().apply(entry.delta());
             }
-            insert.executeBatch();
         }
+        staged.clear();
+    }
+
+    private record StagedDelta(PersistedProfile persisted, PersistedProfile.Delta delta) {
     }
 }
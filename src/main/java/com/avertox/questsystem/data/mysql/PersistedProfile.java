@@ -0,0 +1,119 @@
+package com.avertox.questsystem.data.mysql;
+
+import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.ProfileSnapshot;
+import com.avertox.questsystem.model.ProfileSnapshot.QuestSnapshot;
+import com.avertox.questsystem.model.QuestHistoryEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Last state known to be committed to MySQL for one player, used to turn a save into
+ * the minimal set of upserts, deletes and history appends.
+ */
+class PersistedProfile {
+    private boolean known;
+    private long lastDailyReset;
+    private long lastWeeklyReset;
+    private long lastMonthlyReset;
+    private Map<String, QuestSnapshot> quests = Collections.emptyMap();
+    private List<QuestHistoryEntry> history = Collections.emptyList();
+    private int historyRows;
+
+    void record(ProfileSnapshot profile) {
+        Delta full = diffAgainst(profile, true);
+        apply(full);
+    }
+
+    Delta diff(ProfileSnapshot profile) {
+        return diffAgainst(profile, !known);
+    }
+
+    void apply(Delta delta) {
+        known = true;
+        lastDailyReset = delta.lastDailyReset();
+        lastWeeklyReset = delta.lastWeeklyReset();
+        lastMonthlyReset = delta.lastMonthlyReset();
+        quests = delta.questsAfter();
+        history = delta.historyAfter();
+        historyRows = delta.pruneHistory() ? PlayerQuestProfile.HISTORY_CAPACITY : delta.historyRowsAfter();
+    }
+
+    private Delta diffAgainst(ProfileSnapshot profile, boolean fullRewrite) {
+        long daily = profile.lastDailyReset();
+        long weekly = profile.lastWeeklyReset();
+        long monthly = profile.lastMonthlyReset();
+        boolean metaChanged = fullRewrite
+                || daily != lastDailyReset
+                || weekly != lastWeeklyReset
+                || monthly != lastMonthlyReset;
+
+        Map<String, QuestSnapshot> after = new HashMap<>();
+        List<QuestSnapshot> upserts = new ArrayList<>();
+        for (QuestSnapshot row : profile.quests()) {
+            String key = row.questId().toLowerCase(Locale.ROOT);
+            after.put(key, row);
+            if (fullRewrite || !row.equals(quests.get(key))) {
+                upserts.add(row);
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        if (!fullRewrite) {
+            for (Map.Entry<String, QuestSnapshot> entry : quests.entrySet()) {
+                if (!after.containsKey(entry.getKey())) {
+                    removed.add(entry.getValue().questId());
+                }
+            }
+        }
+
+        List<QuestHistoryEntry> currentHistory = profile.history();
+        boolean historyRewrite = fullRewrite;
+        int fresh = currentHistory.size();
+        if (!fullRewrite && !history.isEmpty()) {
+            fresh = currentHistory.indexOf(history.get(0));
+            if (fresh < 0) {
+                historyRewrite = true;
+                fresh = currentHistory.size();
+            }
+        }
+        List<QuestHistoryEntry> appended = currentHistory.subList(0, fresh);
+        // Rows are only pruned once appends push the stored count past capacity. A load that returned a
+        // full page counts as full, so any legacy overflow is trimmed on the next append.
+        int rowsAfter = historyRewrite ? currentHistory.size() : historyRows + appended.size();
+        boolean prune = !historyRewrite && rowsAfter > PlayerQuestProfile.HISTORY_CAPACITY;
+
+        return new Delta(fullRewrite, metaChanged, daily, weekly, monthly, upserts, removed, after,
+                historyRewrite, appended, currentHistory, rowsAfter, prune);
+    }
+
+    record Delta(
+            boolean fullRewrite,
+            boolean metaChanged,
+            long lastDailyReset,
+            long lastWeeklyReset,
+            long lastMonthlyReset,
+            List<QuestSnapshot> upserts,
+            List<String> removedQuestIds,
+            Map<String, QuestSnapshot> questsAfter,
+            boolean historyRewrite,
+            List<QuestHistoryEntry> appendedHistory,
+            List<QuestHistoryEntry> historyAfter,
+            int historyRowsAfter,
+            boolean pruneHistory
+    ) {
+        boolean isEmpty() {
+            return !fullRewrite
+                    && !metaChanged
+                    && upserts.isEmpty()
+                    && removedQuestIds.isEmpty()
+                    && !historyRewrite
+                    && appendedHistory.isEmpty();
+        }
+    }
+}
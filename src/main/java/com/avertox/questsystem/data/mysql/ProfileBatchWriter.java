@@ -0,0 +1,144 @@
+package com.avertox.questsystem.data.mysql;
+
+import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.ProfileSnapshot;
+import com.avertox.questsystem.model.QuestHistoryEntry;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Accumulates the statements for one or more profile deltas as JDBC batches so that a
+ * whole group of players is written with a handful of round trips on one connection.
+ */
+class ProfileBatchWriter implements AutoCloseable {
+    private final PreparedStatement metaUpsert;
+    private final PreparedStatement questDeleteAll;
+    private final PreparedStatement questDelete;
+    private final PreparedStatement questUpsert;
+    private final PreparedStatement historyDeleteAll;
+    private final PreparedStatement historyInsert;
+    private final PreparedStatement historyPrune;
+    private final List<PreparedStatement> pending = new ArrayList<>();
+
+    ProfileBatchWriter(Connection connection) throws SQLException {
+        this.metaUpsert = connection.prepareStatement(
+                "INSERT INTO player_quest_meta(uuid, last_daily_reset, last_weekly_reset, last_monthly_reset) VALUES (?,?,?,?) "
+                        + "ON DUPLICATE KEY UPDATE last_daily_reset=VALUES(last_daily_reset), "
+                        + "last_weekly_reset=VALUES(last_weekly_reset), last_monthly_reset=VALUES(last_monthly_reset)"
+        );
+        this.questDeleteAll = connection.prepareStatement("DELETE FROM player_quests WHERE uuid=?");
+        this.questDelete = connection.prepareStatement("DELETE FROM player_quests WHERE uuid=? AND quest_id=?");
+        this.questUpsert = connection.prepareStatement(
+                "INSERT INTO player_quests(uuid, quest_id, quest_type, progress, target, completed, claimed, assigned_at, completed_at, expires_at, last_reset) "
+                        + "VALUES (?,?,?,?,?,?,?,?,?,?,?) "
+                        + "ON DUPLICATE KEY UPDATE quest_type=VALUES(quest_type), progress=VALUES(progress), target=VALUES(target), "
+                        + "completed=VALUES(completed), claimed=VALUES(claimed), assigned_at=VALUES(assigned_at), "
+                        + "completed_at=VALUES(completed_at), expires_at=VALUES(expires_at), last_reset=VALUES(last_reset)"
+        );
+        this.historyDeleteAll = connection.prepareStatement("DELETE FROM player_quest_history WHERE uuid=?");
+        this.historyInsert = connection.prepareStatement(
+                "INSERT INTO player_quest_history(uuid, entry_value, quest_id, title, status, completed_at) VALUES (?,?,?,?,?,?)"
+        );
+        // Keeps the newest HISTORY_CAPACITY rows; the derived table lets MySQL read the table it deletes from.
+        this.historyPrune = connection.prepareStatement(
+                "DELETE FROM player_quest_history WHERE uuid=? AND completed_at < ("
+                        + "SELECT completed_at FROM (SELECT completed_at FROM player_quest_history WHERE uuid=? "
+                        + "ORDER BY completed_at DESC LIMIT 1 OFFSET " + (PlayerQuestProfile.HISTORY_CAPACITY - 1) + ") AS cutoff)"
+        );
+    }
+
+    void add(String uuid, PersistedProfile.Delta delta) throws SQLException {
+        if (delta.metaChanged()) {
+            metaUpsert.setString(1, uuid);
+            metaUpsert.setLong(2, delta.lastDailyReset());
+            metaUpsert.setLong(3, delta.lastWeeklyReset());
+            metaUpsert.setLong(4, delta.lastMonthlyReset());
+            batch(metaUpsert);
+        }
+
+        if (delta.fullRewrite()) {
+            questDeleteAll.setString(1, uuid);
+            batch(questDeleteAll);
+        } else {
+            for (String questId : delta.removedQuestIds()) {
+                questDelete.setString(1, uuid);
+                questDelete.setString(2, questId);
+                batch(questDelete);
+            }
+        }
+
+        for (ProfileSnapshot.QuestSnapshot row : delta.upserts()) {
+            questUpsert.setString(1, uuid);
+            questUpsert.setString(2, row.questId());
+            questUpsert.setString(3, row.questType().name());
+            questUpsert.setInt(4, row.progress());
+            questUpsert.setInt(5, row.target());
+            questUpsert.setBoolean(6, row.completed());
+            questUpsert.setBoolean(7, row.claimed());
+            questUpsert.setLong(8, row.assignedAt());
+            questUpsert.setLong(9, row.completedAt());
+            questUpsert.setLong(10, row.expiresAt());
+            questUpsert.setLong(11, row.lastReset());
+            batch(questUpsert);
+        }
+
+        if (delta.historyRewrite()) {
+            historyDeleteAll.setString(1, uuid);
+            batch(historyDeleteAll);
+        }
+        for (QuestHistoryEntry entry : delta.appendedHistory()) {
+            historyInsert.setString(1, uuid);
+            historyInsert.setString(2, entry.toLegacyLine());
+            historyInsert.setString(3, entry.questId());
+            historyInsert.setString(4, entry.title());
+            historyInsert.setString(5, entry.status().name());
+            historyInsert.setLong(6, entry.timestamp());
+            batch(historyInsert);
+        }
+        if (delta.pruneHistory()) {
+            historyPrune.setString(1, uuid);
+            historyPrune.setString(2, uuid);
+            batch(historyPrune);
+        }
+    }
+
+    void execute() throws SQLException {
+        // Deletes run before upserts/inserts and the history prune last; every profile appears at most once per batch.
+        executeIfPending(questDeleteAll);
+        executeIfPending(questDelete);
+        executeIfPending(historyDeleteAll);
+        executeIfPending(metaUpsert);
+        executeIfPending(questUpsert);
+        executeIfPending(historyInsert);
+        executeIfPending(historyPrune);
+        pending.clear();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        metaUpsert.close();
+        questDeleteAll.close();
+        questDelete.close();
+        questUpsert.close();
+        historyDeleteAll.close();
+        historyInsert.close();
+        historyPrune.close();
+    }
+
+    private void batch(PreparedStatement statement) throws SQLException {
+        statement.addBatch();
+        if (!pending.contains(statement)) {
+            pending.add(statement);
+        }
+    }
+
+    private void executeIfPending(PreparedStatement statement) throws SQLException {
+        if (pending.contains(statement)) {
+            statement.executeBatch();
+        }
+    }
+}
@@ -4,6 +4,9 @@ import com.avertox.questsystem.data.DataStorage;
 import com.avertox.questsystem.model.EventRuntimeState;
 import com.avertox.questsystem.model.PlayerQuestProfile;
 import com.avertox.questsystem.model.PlayerQuestState;
+import com.avertox.questsystem.model.ProfileSnapshot;
+import com.avertox.questsystem.model.QuestHistoryEntry;
+import com.avertox.questsystem.model.QuestHistoryStatus;
 import com.avertox.questsystem.model.QuestType;
 import com.avertox.questsystem.util.AsyncExecutor;
 import org.bukkit.configuration.ConfigurationSection;
@@ -12,6 +15,14 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,19 +30,29 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 public class YamlDataStorage implements DataStorage {
+    private static final int SHARD_COUNT = 256;
+
     private final JavaPlugin plugin;
     private final AsyncExecutor async;
+    private final boolean sharded;
     private final Object ioLock = new Object();
+    private final Object[] shardLocks = new Object[SHARD_COUNT];
 
     private final File playerFile;
+    private final File playerDirectory;
     private final File eventFile;
     private final File questDefinitionsFile;
     private final File eventDefinitionsFile;
 
-    public YamlDataStorage(JavaPlugin plugin, AsyncExecutor async) {
+    public YamlDataStorage(JavaPlugin plugin, AsyncExecutor async, boolean sharded) {
         this.plugin = plugin;
         this.async = async;
+        this.sharded = sharded;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shardLocks[i] = new Object();
+        }
         this.playerFile = new File(plugin.getDataFolder(), "data/player_quests.yml");
+        this.playerDirectory = new File(plugin.getDataFolder(), "data/players");
         this.eventFile = new File(plugin.getDataFolder(), "data/events.yml");
         this.questDefinitionsFile = new File(plugin.getDataFolder(), "data/quest_definitions.yml");
         this.eventDefinitionsFile = new File(plugin.getDataFolder(), "data/event_definitions.yml");
@@ -42,7 +63,12 @@ public class YamlDataStorage implements DataStorage {
         return async.run(() -> {
             synchronized (ioLock) {
                 try {
-                    ensureFile(playerFile);
+                    if (sharded) {
+                        playerDirectory.mkdirs();
+                        migrateLegacyPlayerFile();
+                    } else {
+                        ensureFile(playerFile);
+                    }
                     ensureFile(eventFile);
                     ensureFile(questDefinitionsFile);
                     ensureFile(eventDefinitionsFile);
@@ -56,78 +82,60 @@ public class YamlDataStorage implements DataStorage {
     @Override
     public CompletableFuture<PlayerQuestProfile> loadPlayerProfile(UUID uuid) {
         return async.supply(() -> {
-            PlayerQuestProfile profile = new PlayerQuestProfile(uuid);
-            synchronized (ioLock) {
-                YamlConfiguration yaml = YamlConfiguration.loadConfiguration(playerFile);
-                String base = "players." + uuid;
-                profile.setLastDailyReset(yaml.getLong(base + ".last_daily_reset", 0L));
-                profile.setLastWeeklyReset(yaml.getLong(base + ".last_weekly_reset", 0L));
-                profile.setLastMonthlyReset(yaml.getLong(base + ".last_monthly_reset", 0L));
-
-                List<String> history = yaml.getStringList(base + ".history");
-                for (String entry : history) {
-                    profile.addHistory(entry);
-                }
-
-                ConfigurationSection quests = yaml.getConfigurationSection(base + ".quests");
-                if (quests != null) {
-                    for (String questId : quests.getKeys(false)) {
-                        String questBase = base + ".quests." + questId;
-                        QuestType questType;
-                        try {
-                            questType = QuestType.valueOf(yaml.getString(questBase + ".type", "DAILY"));
-                        } catch (IllegalArgumentException ex) {
-                            questType = QuestType.DAILY;
-                        }
-                        PlayerQuestState state = new PlayerQuestState(
-                                questId,
-                                questType,
-                                yaml.getInt(questBase + ".progress", 0),
-                                yaml.getInt(questBase + ".target", 1),
-                                yaml.getBoolean(questBase + ".completed", false),
-                                yaml.getBoolean(questBase + ".claimed", false),
-                                yaml.getLong(questBase + ".assigned_at", System.currentTimeMillis()),
-                                yaml.getLong(questBase + ".completed_at", 0L),
-                                yaml.getLong(questBase + ".expires_at", 0L),
-                                yaml.getLong(questBase + ".last_reset", 0L)
-                        );
-                        profile.questStates().put(questId.toLowerCase(), state);
+            if (sharded) {
+                synchronized (shardLock(uuid)) {
+                    File file = shardFile(uuid);
+                    if (!file.exists()) {
+                        return new PlayerQuestProfile(uuid);
                     }
+                    return readProfile(YamlConfiguration.loadConfiguration(file), uuid);
                 }
             }
-            return profile;
+            synchronized (ioLock) {
+                YamlConfiguration yaml = YamlConfiguration.loadConfiguration(playerFile);
+                ConfigurationSection section = yaml.getConfigurationSection("players." + uuid);
+                return section == null ? new PlayerQuestProfile(uuid) : readProfile(section, uuid);
+            }
         });
     }
 
     @Override
-    public CompletableFuture<Void> savePlayerProfile(PlayerQuestProfile profile) {
-        return async.run(() -> {
+    public CompletableFuture<Void> savePlayerProfile(ProfileSnapshot profile) {
+        return saveProfiles(List.of(profile));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveProfiles(Collection<ProfileSnapshot> profiles) {
+        return async.runDeferrable(() -> {
+            if (profiles.isEmpty()) {
+                return;
+            }
+            // IO failures fail the future so StorageManager keeps the profiles dirty and retries them.
+            if (sharded) {
+                IOException failure = null;
+                int failed = 0;
+                for (ProfileSnapshot profile : profiles) {
+                    try {
+                        writeShard(profile);
+                    } catch (IOException ex) {
+                        failure = ex;
+                        failed++;
+                    }
+                }
+                if (failure != null) {
+                    throw new UncheckedIOException("Failed saving " + failed + " player quest YAML file(s): " + failure.getMessage(), failure);
+                }
+                return;
+            }
             synchronized (ioLock) {
                 YamlConfiguration yaml = YamlConfiguration.loadConfiguration(playerFile);
-                String base = "players." + profile.uuid();
-                yaml.set(base + ".last_daily_reset", profile.lastDailyReset());
-                yaml.set(base + ".last_weekly_reset", profile.lastWeeklyReset());
-                yaml.set(base + ".last_monthly_reset", profile.lastMonthlyReset());
-                yaml.set(base + ".history", profile.history());
-
-                yaml.set(base + ".quests", null);
-                for (PlayerQuestState state : profile.questStates().values()) {
-                    String questBase = base + ".quests." + state.questId();
-                    yaml.set(questBase + ".type", state.questType().name());
-                    yaml.set(questBase + ".progress", state.progress());
-                    yaml.set(questBase + ".target", state.target());
-                    yaml.set(questBase + ".completed", state.completed());
-                    yaml.set(questBase + ".claimed", state.claimed());
-                    yaml.set(questBase + ".assigned_at", state.assignedAt());
-                    yaml.set(questBase + ".completed_at", state.completedAt());
-                    yaml.set(questBase + ".expires_at", state.expiresAt());
-                    yaml.set(questBase + ".last_reset", state.lastReset());
+                for (ProfileSnapshot profile : profiles) {
+                    writeProfile(yaml.createSection("players." + profile.uuid()), profile);
                 }
-
                 try {
                     yaml.save(playerFile);
                 } catch (IOException ex) {
-                    plugin.getLogger().warning("Failed saving player quest YAML: " + ex.getMessage());
+                    throw new UncheckedIOException("Failed saving player quest YAML: " + ex.getMessage(), ex);
                 }
             }
         });
@@ -157,7 +165,7 @@ public class YamlDataStorage implements DataStorage {
 
     @Override
     public CompletableFuture<Void> saveEventRuntime(EventRuntimeState state) {
-        return async.run(() -> {
+        return async.runDeferrable(() -> {
             synchronized (ioLock) {
                 YamlConfiguration yaml = YamlConfiguration.loadConfiguration(eventFile);
                 yaml.set("runtime.active_event_id", state.activeEventId());
@@ -226,7 +234,7 @@ public class YamlDataStorage implements DataStorage {
     }
 
     private CompletableFuture<Void> saveDefinitionMap(File file, String rootKey, Map<String, Map<String, Object>> definitions) {
-        return async.run(() -> {
+        return async.runDeferrable(() -> {
             synchronized (ioLock) {
                 YamlConfiguration yaml = YamlConfiguration.loadConfiguration(file);
                 yaml.set(rootKey, null);
@@ -244,6 +252,164 @@ public class YamlDataStorage implements DataStorage {
         });
     }
 
+    static PlayerQuestProfile readProfile(ConfigurationSection section, UUID uuid) {
+        PlayerQuestProfile profile = new PlayerQuestProfile(uuid);
+        profile.setLastDailyReset(section.getLong("last_daily_reset", 0L));
+        profile.setLastWeeklyReset(section.getLong("last_weekly_reset", 0L));
+        profile.setLastMonthlyReset(section.getLong("last_monthly_reset", 0L));
+
+        List<?> history = section.getList("history");
+        if (history != null) {
+            // Stored newest first; replay oldest first so the ring buffer keeps the same order.
+            for (int i = history.size() - 1; i >= 0; i--) {
+                profile.addHistory(readHistoryEntry(history.get(i)));
+            }
+        }
+
+        ConfigurationSection quests = section.getConfigurationSection("quests");
+        if (quests != null) {
+            for (String questId : quests.getKeys(false)) {
+                String questBase = "quests." + questId;
+                QuestType questType;
+                try {
+                    questType = QuestType.valueOf(section.getString(questBase + ".type", "DAILY"));
+                } catch (IllegalArgumentException ex) {
+                    questType = QuestType.DAILY;
+                }
+                PlayerQuestState state = new PlayerQuestState(
+                        questId,
+                        questType,
+                        section.getInt(questBase + ".progress", 0),
+                        section.getInt(questBase + ".target", 1),
+                        section.getBoolean(questBase + ".completed", false),
+                        section.getBoolean(questBase + ".claimed", false),
+                        section.getLong(questBase + ".assigned_at", System.currentTimeMillis()),
+                        section.getLong(questBase + ".completed_at", 0L),
+                        section.getLong(questBase + ".expires_at", 0L),
+                        section.getLong(questBase + ".last_reset", 0L)
+                );
+                profile.questStates().put(questId.toLowerCase(), state);
+            }
+        }
+        return profile;
+    }
+
+    static void writeProfile(ConfigurationSection section, ProfileSnapshot profile) {
+        section.set("last_daily_reset", profile.lastDailyReset());
+        section.set("last_weekly_reset", profile.lastWeeklyReset());
+        section.set("last_monthly_reset", profile.lastMonthlyReset());
+        List<Map<String, Object>> history = new ArrayList<>();
+        for (QuestHistoryEntry entry : profile.history()) {
+            Map<String, Object> raw = new LinkedHashMap<>();
+            raw.put("quest", entry.questId());
+            raw.put("title", entry.title());
+            raw.put("time", entry.timestamp());
+            raw.put("status", entry.status().name());
+            history.add(raw);
+        }
+        section.set("history", history);
+
+        section.set("quests", null);
+        for (ProfileSnapshot.QuestSnapshot state : profile.quests()) {
+            String questBase = "quests." + state.questId();
+            section.set(questBase + ".type", state.questType().name());
+            section.set(questBase + ".progress", state.progress());
+            section.set(questBase + ".target", state.target());
+            section.set(questBase + ".completed", state.completed());
+            section.set(questBase + ".claimed", state.claimed());
+            section.set(questBase + ".assigned_at", state.assignedAt());
+            section.set(questBase + ".completed_at", state.completedAt());
+            section.set(questBase + ".expires_at", state.expiresAt());
+            section.set(questBase + ".last_reset", state.lastReset());
+        }
+    }
+
+    private static QuestHistoryEntry readHistoryEntry(Object raw) {
+        if (raw instanceof String line) {
+            return QuestHistoryEntry.parseLegacy(line, 0L);
+        }
+        if (!(raw instanceof Map<?, ?> map)) {
+            return null;
+        }
+        Object questId = map.get("quest");
+        Object title = map.get("title");
+        Object time = map.get("time");
+        Object status = map.get("status");
+        return new QuestHistoryEntry(
+                questId == null ? null : String.valueOf(questId),
+                title == null ? null : String.valueOf(title),
+                time instanceof Number number ? number.longValue() : 0L,
+                QuestHistoryStatus.parse(status == null ? null : String.valueOf(status))
+        );
+    }
+
+    private void migrateLegacyPlayerFile() throws IOException {
+        if (!playerFile.exists()) {
+            return;
+        }
+        YamlConfiguration legacy = YamlConfiguration.loadConfiguration(playerFile);
+        ConfigurationSection players = legacy.getConfigurationSection("players");
+        int migrated = 0;
+        if (players != null) {
+            for (String key : players.getKeys(false)) {
+                UUID uuid;
+                try {
+                    uuid = UUID.fromString(key);
+                } catch (IllegalArgumentException ex) {
+                    plugin.getLogger().warning("Skipping legacy player entry with invalid UUID: " + key);
+                    continue;
+                }
+                ConfigurationSection section = players.getConfigurationSection(key);
+                File target = shardFile(uuid);
+                if (section == null || target.exists()) {
+                    continue;
+                }
+                YamlConfiguration yaml = new YamlConfiguration();
+                writeProfile(yaml, readProfile(section, uuid).snapshot());
+                writeAtomically(target, yaml.saveToString());
+                migrated++;
+            }
+        }
+
+        File archived = new File(playerFile.getParentFile(), playerFile.getName() + ".migrated");
+        Files.move(playerFile.toPath(), archived.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        plugin.getLogger().info("Migrated " + migrated + " player profiles from " + playerFile.getName()
+                + " to per-player files; legacy file kept as " + archived.getName());
+    }
+
+    private File shardFile(UUID uuid) {
+        String name = uuid.toString();
+        return new File(new File(playerDirectory, name.substring(0, 2)), name + ".yml");
+    }
+
+    private void writeShard(ProfileSnapshot profile) throws IOException {
+        synchronized (shardLock(profile.uuid())) {
+            YamlConfiguration yaml = new YamlConfiguration();
+            writeProfile(yaml, profile);
+            writeAtomically(shardFile(profile.uuid()), yaml.saveToString());
+        }
+    }
+
+    private Object shardLock(UUID uuid) {
+        return shardLocks[Integer.parseInt(uuid.toString().substring(0, 2), 16)];
+    }
+
+    private void writeAtomically(File target, String contents) throws IOException {
+        Path path = target.toPath();
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), target.getName(), ".tmp");
+        try {
+            Files.writeString(temp, contents, StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
     private Map<String, Object> toMap(ConfigurationSection section) {
         Map<String, Object> output = new LinkedHashMap<>();
         for (String key : section.getKeys(false)) {
@@ -4,6 +4,8 @@ import com.avertox.questsystem.api.GlobalEventEndEvent;
 import com.avertox.questsystem.api.GlobalEventStartEvent;
 import com.avertox.questsystem.config.MainConfig;
 import com.avertox.questsystem.data.StorageManager;
+import com.avertox.questsystem.metrics.PluginMetrics;
+import com.avertox.questsystem.metrics.Timer;
 import com.avertox.questsystem.model.EventEffect;
 import com.avertox.questsystem.model.EventEffectType;
 import com.avertox.questsystem.model.EventRuntimeState;
@@ -35,6 +37,8 @@ public class EventManager {
     private final MainConfig config;
     private final StorageManager storageManager;
     private final EventRegistry registry;
+    private final Timer schedulerTickTimer;
+    private final Timer activeTickTimer;
 
     private final EventRuntimeState runtimeState = new EventRuntimeState();
     private final Map<UUID, Float> originalWalkSpeeds = new ConcurrentHashMap<>();
@@ -42,18 +46,28 @@ public class EventManager {
 
     private BossBar bossBar;
     private BukkitTask tickerTask;
-    private GlobalEvent activeEvent;
+    private volatile GlobalEvent activeEvent;
 
     private volatile double moneyBoostMultiplier = 1D;
     private volatile double xpBoostMultiplier = 1D;
     private volatile double dropRateMultiplier;
     private volatile double miningSpeedMultiplier;
 
-    public EventManager(JavaPlugin plugin, MainConfig config, StorageManager storageManager, EventRegistry registry) {
+    public EventManager(JavaPlugin plugin, MainConfig config, StorageManager storageManager, EventRegistry registry, PluginMetrics metrics) {
         this.plugin = plugin;
         this.config = config;
         this.storageManager = storageManager;
         this.registry = registry;
+        this.schedulerTickTimer = metrics.timer("event.scheduler_tick");
+        this.activeTickTimer = metrics.timer("event.active_tick");
+        metrics.textGauge("event.active", () -> {
+            GlobalEvent event = activeEvent;
+            return event == null ? "" : event.id();
+        });
+        metrics.doubleGauge("event.money_multiplier", this::moneyBoostMultiplier);
+        metrics.doubleGauge("event.xp_multiplier", this::xpBoostMultiplier);
+        metrics.doubleGauge("event.drop_rate_multiplier", this::dropRateMultiplier);
+        metrics.doubleGauge("event.mining_speed_multiplier", this::miningSpeedMultiplier);
         this.dropRateMultiplier = config.baseDropRateMultiplier();
         this.miningSpeedMultiplier = config.baseMiningMultiplier();
     }
@@ -175,6 +189,12 @@ public class EventManager {
     }
 
     public void schedulerTick() {
+        long start = schedulerTickTimer.start();
+        checkSchedule();
+        schedulerTickTimer.stop(start);
+    }
+
+    private void checkSchedule() {
         long now = System.currentTimeMillis();
         if (activeEvent != null) {
             if (now >= runtimeState.activeUntil()) {
@@ -303,21 +323,25 @@ public class EventManager {
         if (tickerTask != null) {
             tickerTask.cancel();
         }
-        tickerTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (activeEvent == null) {
-                return;
-            }
-            long now = System.currentTimeMillis();
-            long total = TimeUnit.MINUTES.toMillis(activeEvent.durationMinutes());
-            long remaining = Math.max(0L, runtimeState.activeUntil() - now);
-            if (bossBar != null) {
-                bossBar.setTitle(ChatColor.GOLD + "⚡ " + activeEvent.name() + ChatColor.GRAY + " - " + TimeUtil.shortDuration(remaining));
-                bossBar.setProgress(Math.max(0.0D, Math.min(1.0D, remaining / (double) total)));
-            }
-            if (remaining <= 0L) {
-                stopActiveEvent(true);
-            }
-        }, 20L, 20L);
+        tickerTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tickActiveEvent, 20L, 20L);
+    }
+
+    private void tickActiveEvent() {
+        if (activeEvent == null) {
+            return;
+        }
+        long start = activeTickTimer.start();
+        long now = System.currentTimeMillis();
+        long total = TimeUnit.MINUTES.toMillis(activeEvent.durationMinutes());
+        long remaining = Math.max(0L, runtimeState.activeUntil() - now);
+        if (bossBar != null) {
+            bossBar.setTitle(ChatColor.GOLD + "⚡ " + activeEvent.name() + ChatColor.GRAY + " - " + TimeUtil.shortDuration(remaining));
+            bossBar.setProgress(Math.max(0.0D, Math.min(1.0D, remaining / (double) total)));
+        }
+        if (remaining <= 0L) {
+            stopActiveEvent(true);
+        }
+        activeTickTimer.stop(start);
     }
 
     private void applyEffects(GlobalEvent event) {
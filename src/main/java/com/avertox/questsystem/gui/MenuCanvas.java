@@ -0,0 +1,56 @@
+package com.avertox.questsystem.gui;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Objects;
+
+/**
+ * Render buffer in front of a menu inventory. A refresh draws every slot into the buffer and
+ * {@link #apply()} writes only the slots whose item differs from what the inventory last received.
+ */
+public final class MenuCanvas {
+    private final Inventory inventory;
+    private final ItemStack[] next;
+    private final ItemStack[] shown;
+    private boolean applied;
+
+    public MenuCanvas(Inventory inventory) {
+        this.inventory = inventory;
+        this.next = new ItemStack[inventory.getSize()];
+        this.shown = new ItemStack[inventory.getSize()];
+    }
+
+    public int getSize() {
+        return next.length;
+    }
+
+    /**
+     * Starts a new frame from the menu's static layer; dynamic slots are drawn on top of it.
+     */
+    public void reset(MenuTemplate template) {
+        if (template.size() != next.length) {
+            throw new IllegalArgumentException("Template size " + template.size() + " does not match menu size " + next.length);
+        }
+        template.copyInto(next);
+    }
+
+    public void setItem(int slot, ItemStack item) {
+        next[slot] = item;
+    }
+
+    public void apply() {
+        if (!applied) {
+            inventory.setContents(next);
+            System.arraycopy(next, 0, shown, 0, next.length);
+            applied = true;
+            return;
+        }
+        for (int slot = 0; slot < next.length; slot++) {
+            if (!Objects.equals(shown[slot], next[slot])) {
+                inventory.setItem(slot, next[slot]);
+                shown[slot] = next[slot];
+            }
+        }
+    }
+}
@@ -1,24 +1,74 @@
 package com.avertox.questsystem.gui;
 
+import com.avertox.questsystem.config.MainConfig;
+import com.avertox.questsystem.metrics.Counter;
+import com.avertox.questsystem.metrics.PluginMetrics;
+import com.avertox.questsystem.metrics.Timer;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class MenuManager implements Listener {
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private final JavaPlugin plugin;
+    private final MainConfig config;
     private final Map<UUID, BaseMenu> openMenus = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> lastRefreshMs = new ConcurrentHashMap<>();
+    private final Set<UUID> pendingRefresh = ConcurrentHashMap.newKeySet();
+    private final Timer refreshTimer;
+    private final Counter deferredRefreshes;
+
+    public MenuManager(JavaPlugin plugin, MainConfig config, PluginMetrics metrics) {
+        this.plugin = plugin;
+        this.config = config;
+        this.refreshTimer = metrics.timer("menu.refresh");
+        this.deferredRefreshes = metrics.counter("menu.refresh_deferred");
+        metrics.gauge("menu.open", openMenus::size);
+    }
 
     public void open(Player player, BaseMenu menu) {
         openMenus.put(player.getUniqueId(), menu);
         menu.open(player);
     }
 
+    /**
+     * Refreshes the open menu at most once per {@code gui.refresh_debounce_ticks}; updates arriving
+     * inside the window collapse into one trailing refresh.
+     */
     public void refreshIfOpen(Player player) {
+        UUID uuid = player.getUniqueId();
+        if (!openMenus.containsKey(uuid) || !pendingRefresh.add(uuid)) {
+            return;
+        }
+        long interval = config.menuRefreshTicks() * MILLIS_PER_TICK;
+        long wait = lastRefreshMs.getOrDefault(uuid, 0L) + interval - System.currentTimeMillis();
+        if (wait <= 0L) {
+            pendingRefresh.remove(uuid);
+            refreshNow(player);
+            return;
+        }
+        long ticks = Math.max(1L, (wait + MILLIS_PER_TICK - 1L) / MILLIS_PER_TICK);
+        deferredRefreshes.increment();
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            pendingRefresh.remove(uuid);
+            Player online = Bukkit.getPlayer(uuid);
+            if (online != null) {
+                refreshNow(online);
+            }
+        }, ticks);
+    }
+
+    private void refreshNow(Player player) {
         BaseMenu menu = openMenus.get(player.getUniqueId());
         if (menu == null) {
             return;
@@ -26,7 +76,10 @@ public class MenuManager implements Listener {
         if (!player.getOpenInventory().getTopInventory().equals(menu.getInventory())) {
             return;
         }
+        long start = refreshTimer.start();
+        lastRefreshMs.put(player.getUniqueId(), System.currentTimeMillis());
         menu.refresh(player);
+        refreshTimer.stop(start);
     }
 
     @EventHandler
@@ -57,6 +110,7 @@ public class MenuManager implements Listener {
         }
         if (event.getInventory().equals(menu.getInventory())) {
             openMenus.remove(player.getUniqueId());
+            lastRefreshMs.remove(player.getUniqueId());
         }
     }
 }
@@ -0,0 +1,60 @@
+package com.avertox.questsystem.gui;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Static layer of a menu (frame, decoration, fixed buttons) built once per menu type and copied
+ * into a {@link MenuCanvas} before the dynamic slots are drawn. The stacks are shared between
+ * every open copy of the menu and must never be mutated.
+ */
+public final class MenuTemplate {
+    private final ItemStack[] layer;
+
+    private MenuTemplate(ItemStack[] layer) {
+        this.layer = layer;
+    }
+
+    public static Builder builder(int size) {
+        return new Builder(size);
+    }
+
+    int size() {
+        return layer.length;
+    }
+
+    void copyInto(ItemStack[] target) {
+        System.arraycopy(layer, 0, target, 0, layer.length);
+    }
+
+    public static final class Builder {
+        private final ItemStack[] layer;
+
+        private Builder(int size) {
+            this.layer = new ItemStack[size];
+        }
+
+        public Builder frame(Material material, String label) {
+            ItemStack frame = MenuUtil.glass(material, label);
+            int rows = layer.length / 9;
+            for (int x = 0; x < 9; x++) {
+                layer[x] = frame;
+                layer[(rows - 1) * 9 + x] = frame;
+            }
+            for (int y = 0; y < rows; y++) {
+                layer[y * 9] = frame;
+                layer[y * 9 + 8] = frame;
+            }
+            return this;
+        }
+
+        public Builder set(int slot, ItemStack item) {
+            layer[slot] = item;
+            return this;
+        }
+
+        public MenuTemplate build() {
+            return new MenuTemplate(layer.clone());
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.avertox.questsystem.gui.menu;
 
 import com.avertox.questsystem.event.EventManager;
 import com.avertox.questsystem.gui.BaseMenu;
+import com.avertox.questsystem.gui.MenuCanvas;
+import com.avertox.questsystem.gui.MenuTemplate;
 import com.avertox.questsystem.gui.MenuManager;
 import com.avertox.questsystem.gui.MenuUtil;
 import com.avertox.questsystem.model.EventEffect;
@@ -22,12 +24,41 @@ import java.util.List;
 public class EventAdminDetailsMenu implements BaseMenu {
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
             .withZone(ZoneId.systemDefault());
+    private static final MenuTemplate MISSING_TEMPLATE = MenuTemplate.builder(45)
+            .frame(Material.NETHER_BRICK, "§0")
+            .set(22, MenuUtil.item(Material.BARRIER, "§cEvent Not Found", List.of(
+                    "§7This event no longer exists in registry."
+            )))
+            .set(38, MenuUtil.item(Material.ARROW, "§fBack", List.of("§7Return to event console")))
+            .build();
+    private static final MenuTemplate TEMPLATE = MenuTemplate.builder(45)
+            .frame(Material.NETHER_BRICK, "§0")
+            .set(25, MenuUtil.item(Material.COMPARATOR, "§6Control Notes", List.of(
+                    "§7Use controls below to run tests,",
+                    "§7force live starts, or stop events."
+            )))
+            .set(29, MenuUtil.item(Material.LIME_CONCRETE, "§aStart (Broadcast)", List.of(
+                    "§7Starts this event and broadcasts",
+                    "§7chat/title/bossbar notifications."
+            )))
+            .set(31, MenuUtil.item(Material.YELLOW_CONCRETE, "§eStart (Silent)", List.of(
+                    "§7Starts this event without broadcast.",
+                    "§7Useful for internal testing."
+            )))
+            .set(33, MenuUtil.item(Material.RED_CONCRETE, "§cStop Active Event", List.of(
+                    "§7Ends whatever event is active now."
+            )))
+            .set(40, MenuUtil.item(Material.CLOCK, "§bRefresh", List.of(
+                    "§7Refresh runtime/event information."
+            )))
+            .build();
 
     private final EventManager eventManager;
     private final MenuManager menuManager;
     private final String eventId;
     private final int returnPage;
     private final Inventory inventory;
+    private final MenuCanvas canvas;
 
     public EventAdminDetailsMenu(EventManager eventManager, MenuManager menuManager, String eventId, int returnPage) {
         this.eventManager = eventManager;
@@ -35,6 +66,7 @@ public class EventAdminDetailsMenu implements BaseMenu {
         this.eventId = eventId;
         this.returnPage = Math.max(0, returnPage);
         this.inventory = Bukkit.createInventory(null, 45, "§c§lEvent Details");
+        this.canvas = new MenuCanvas(inventory);
     }
 
     @Override
@@ -84,17 +116,17 @@ public class EventAdminDetailsMenu implements BaseMenu {
 
     @Override
     public void refresh(Player player) {
-        inventory.clear();
-        MenuUtil.frame(inventory, Material.NETHER_BRICK, "§0");
+        render(player);
+        canvas.apply();
+    }
 
+    private void render(Player player) {
         GlobalEvent target = eventManager.getEvent(eventId);
         if (target == null) {
-            inventory.setItem(22, MenuUtil.item(Material.BARRIER, "§cEvent Not Found", List.of(
-                    "§7This event no longer exists in registry."
-            )));
-            inventory.setItem(38, MenuUtil.item(Material.ARROW, "§fBack", List.of("§7Return to event console")));
+            canvas.reset(MISSING_TEMPLATE);
             return;
         }
+        canvas.reset(TEMPLATE);
 
         GlobalEvent active = eventManager.getActiveEvent();
         boolean isActive = active != null && active.id().equalsIgnoreCase(target.id());
@@ -102,7 +134,7 @@ public class EventAdminDetailsMenu implements BaseMenu {
         long lastTrigger = eventManager.getLastTriggerTime(target.id());
         String lastTriggerLine = lastTrigger <= 0L ? "Never" : TIME_FORMATTER.format(Instant.ofEpochMilli(lastTrigger));
 
-        inventory.setItem(4, MenuUtil.item(isActive ? Material.BEACON : Material.REDSTONE_TORCH,
+        canvas.setItem(4, MenuUtil.item(isActive ? Material.BEACON : Material.REDSTONE_TORCH,
                 isActive ? "§a§l" + target.name() + " (ACTIVE)" : "§f§l" + target.name(),
                 List.of(
                         "§8ID: " + target.id(),
@@ -111,39 +143,20 @@ public class EventAdminDetailsMenu implements BaseMenu {
                         "§7Enabled: " + (target.enabled() ? "§aYes" : "§cNo")
                 )));
 
-        inventory.setItem(19, MenuUtil.item(Material.CLOCK, "§bRuntime", List.of(
+        canvas.setItem(19, MenuUtil.item(Material.CLOCK, "§bRuntime", List.of(
                 "§7Last Trigger: §f" + lastTriggerLine,
                 "§7Next Trigger In: §f" + TimeUtil.shortDuration(TimeUtil.millisUntil(eventManager.getNextTriggerEpochMs())),
                 "§7Active Remaining: §f" + TimeUtil.shortDuration(eventManager.getActiveRemainingMillis())
         )));
 
-        inventory.setItem(21, MenuUtil.item(Material.ENCHANTED_BOOK, "§dEffects", effectsLore(target.effects())));
-        inventory.setItem(23, MenuUtil.item(Material.PAPER, "§eDisplay Preview", List.of(
+        canvas.setItem(21, MenuUtil.item(Material.ENCHANTED_BOOK, "§dEffects", effectsLore(target.effects())));
+        canvas.setItem(23, MenuUtil.item(Material.PAPER, "§eDisplay Preview", List.of(
                 "§7" + eventManager.getCurrentOrUpcomingDisplay()
         )));
-        inventory.setItem(25, MenuUtil.item(Material.COMPARATOR, "§6Control Notes", List.of(
-                "§7Use controls below to run tests,",
-                "§7force live starts, or stop events."
-        )));
 
-        inventory.setItem(29, MenuUtil.item(Material.LIME_CONCRETE, "§aStart (Broadcast)", List.of(
-                "§7Starts this event and broadcasts",
-                "§7chat/title/bossbar notifications."
-        )));
-        inventory.setItem(31, MenuUtil.item(Material.YELLOW_CONCRETE, "§eStart (Silent)", List.of(
-                "§7Starts this event without broadcast.",
-                "§7Useful for internal testing."
-        )));
-        inventory.setItem(33, MenuUtil.item(Material.RED_CONCRETE, "§cStop Active Event", List.of(
-                "§7Ends whatever event is active now."
-        )));
-
-        inventory.setItem(38, MenuUtil.item(Material.ARROW, "§fBack to Event Console", List.of(
+        canvas.setItem(38, MenuUtil.item(Material.ARROW, "§fBack to Event Console", List.of(
                 "§7Return to page " + (returnPage + 1)
         )));
-        inventory.setItem(40, MenuUtil.item(Material.CLOCK, "§bRefresh", List.of(
-                "§7Refresh runtime/event information."
-        )));
     }
 
     private List<String> effectsLore(List<EventEffect> effects) {
@@ -2,6 +2,8 @@ package com.avertox.questsystem.gui.menu;
 
 import com.avertox.questsystem.event.EventManager;
 import com.avertox.questsystem.gui.BaseMenu;
+import com.avertox.questsystem.gui.MenuCanvas;
+import com.avertox.questsystem.gui.MenuTemplate;
 import com.avertox.questsystem.gui.MenuManager;
 import com.avertox.questsystem.gui.MenuUtil;
 import com.avertox.questsystem.model.GlobalEvent;
@@ -28,10 +30,12 @@ public class EventAdminMenu implements BaseMenu {
     private static final int PER_PAGE = EVENT_SLOTS.length;
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
             .withZone(ZoneId.systemDefault());
+    private static final MenuTemplate TEMPLATE = buildTemplate();
 
     private final EventManager eventManager;
     private final MenuManager menuManager;
     private final Inventory inventory;
+    private final MenuCanvas canvas;
     private final Map<Integer, String> eventSlotMap = new HashMap<>();
     private int page;
 
@@ -44,6 +48,7 @@ public class EventAdminMenu implements BaseMenu {
         this.menuManager = menuManager;
         this.page = Math.max(0, page);
         this.inventory = Bukkit.createInventory(null, 54, "§4§lEvent Control Center");
+        this.canvas = new MenuCanvas(inventory);
     }
 
     @Override
@@ -122,21 +127,23 @@ public class EventAdminMenu implements BaseMenu {
 
     @Override
     public void refresh(Player player) {
-        inventory.clear();
-        eventSlotMap.clear();
+        render(player);
+        canvas.apply();
+    }
 
-        MenuUtil.frame(inventory, Material.BLACK_STAINED_GLASS_PANE, "§0");
-        decorateTop();
+    private void render(Player player) {
+        eventSlotMap.clear();
+        canvas.reset(TEMPLATE);
 
         GlobalEvent active = eventManager.getActiveEvent();
         if (active == null) {
-            inventory.setItem(4, MenuUtil.item(Material.REDSTONE_BLOCK, "§c§lNo Active Global Event", List.of(
+            canvas.setItem(4, MenuUtil.item(Material.REDSTONE_BLOCK, "§c§lNo Active Global Event", List.of(
                     "§7Scheduler Status: §fMonitoring",
                     "§7Next Trigger In: §f" + TimeUtil.shortDuration(TimeUtil.millisUntil(eventManager.getNextTriggerEpochMs())),
                     "§7Upcoming Display: §f" + eventManager.getCurrentOrUpcomingDisplay()
             )));
         } else {
-            inventory.setItem(4, MenuUtil.item(Material.BEACON, "§a§lActive: " + active.name(), List.of(
+            canvas.setItem(4, MenuUtil.item(Material.BEACON, "§a§lActive: " + active.name(), List.of(
                     "§7Description: §f" + active.description(),
                     "§7Remaining: §f" + TimeUtil.shortDuration(eventManager.getActiveRemainingMillis()),
                     "§7Effects: §f" + active.effects().size()
@@ -173,37 +180,29 @@ public class EventAdminMenu implements BaseMenu {
                     "§eShift + Left Click: Start silently",
                     "§bRight Click: Open detail controls"
             );
-            inventory.setItem(slot, MenuUtil.item(icon, title(data, active), lore));
+            canvas.setItem(slot, MenuUtil.item(icon, title(data, active), lore));
             eventSlotMap.put(slot, data.id());
         }
 
         if (events.isEmpty()) {
-            inventory.setItem(22, MenuUtil.item(Material.BARRIER, "§cNo Events Loaded", List.of(
+            canvas.setItem(22, MenuUtil.item(Material.BARRIER, "§cNo Events Loaded", List.of(
                     "§7No event definitions are loaded.",
                     "§7Use §f/event status §7or reload definitions."
             )));
         }
 
-        inventory.setItem(47, MenuUtil.item(Material.ARROW, "§fPrevious Page", List.of(
+        canvas.setItem(47, MenuUtil.item(Material.ARROW, "§fPrevious Page", List.of(
                 "§7Current: §f" + (page + 1),
                 "§7Max: §f" + (maxPage + 1)
         )));
-        inventory.setItem(49, MenuUtil.item(Material.BARRIER, "§cStop Active Event", List.of(
-                "§7Immediately end the active global event."
-        )));
-        inventory.setItem(50, MenuUtil.item(Material.LIGHTNING_ROD, "§6Trigger Random Event", List.of(
-                "§7Force a random enabled event now."
-        )));
-        inventory.setItem(51, MenuUtil.item(Material.CLOCK, "§bRefresh Dashboard", List.of(
-                "§7Refresh all event states and cards."
-        )));
-        inventory.setItem(53, MenuUtil.item(Material.ARROW, "§fNext Page", List.of(
+        canvas.setItem(53, MenuUtil.item(Material.ARROW, "§fNext Page", List.of(
                 "§7Current: §f" + (page + 1),
                 "§7Max: §f" + (maxPage + 1)
         )));
     }
 
-    private void decorateTop() {
+    private static MenuTemplate buildTemplate() {
+        MenuTemplate.Builder template = MenuTemplate.builder(54).frame(Material.BLACK_STAINED_GLASS_PANE, "§0");
         Material[] palette = new Material[]{
                 Material.RED_STAINED_GLASS_PANE,
                 Material.ORANGE_STAINED_GLASS_PANE,
@@ -214,8 +213,19 @@ public class EventAdminMenu implements BaseMenu {
                 Material.YELLOW_STAINED_GLASS_PANE
         };
         for (int i = 0; i < palette.length; i++) {
-            inventory.setItem(i + 1, MenuUtil.glass(palette[i], "§0"));
-        }
+            template.set(i + 1, MenuUtil.glass(palette[i], "§0"));
+        }
+        return template
+                .set(49, MenuUtil.item(Material.BARRIER, "§cStop Active Event", List.of(
+                        "§7Immediately end the active global event."
+                )))
+                .set(50, MenuUtil.item(Material.LIGHTNING_ROD, "§6Trigger Random Event", List.of(
+                        "§7Force a random enabled event now."
+                )))
+                .set(51, MenuUtil.item(Material.CLOCK, "§bRefresh Dashboard", List.of(
+                        "§7Refresh all event states and cards."
+                )))
+                .build();
     }
 
     private String title(GlobalEvent event, GlobalEvent active) {
@@ -1,6 +1,8 @@
 package com.avertox.questsystem.gui.menu;
 
 import com.avertox.questsystem.gui.BaseMenu;
+import com.avertox.questsystem.gui.MenuCanvas;
+import com.avertox.questsystem.gui.MenuTemplate;
 import com.avertox.questsystem.gui.MenuManager;
 import com.avertox.questsystem.gui.MenuUtil;
 import com.avertox.questsystem.quest.QuestManager;
@@ -14,16 +16,27 @@ import org.bukkit.inventory.Inventory;
 import java.util.List;
 
 public class QuestCompletionMenu implements BaseMenu {
+    private static final MenuTemplate MISSING_TEMPLATE = MenuTemplate.builder(27)
+            .frame(Material.GREEN_STAINED_GLASS_PANE, "§0")
+            .set(13, MenuUtil.item(Material.BARRIER, "§cQuest Not Found", List.of("§7This quest is no longer active.")))
+            .build();
+    private static final MenuTemplate TEMPLATE = MenuTemplate.builder(27)
+            .frame(Material.GREEN_STAINED_GLASS_PANE, "§0")
+            .set(15, MenuUtil.item(Material.ARROW, "§fBack", List.of("§7Return to details")))
+            .build();
+
     private final QuestManager questManager;
     private final MenuManager menuManager;
     private final String questId;
     private final Inventory inventory;
+    private final MenuCanvas canvas;
 
     public QuestCompletionMenu(QuestManager questManager, MenuManager menuManager, String questId) {
         this.questManager = questManager;
         this.menuManager = menuManager;
         this.questId = questId;
         this.inventory = Bukkit.createInventory(null, 27, "§a§lClaim Reward");
+        this.canvas = new MenuCanvas(inventory);
     }
 
     @Override
@@ -62,27 +75,28 @@ public class QuestCompletionMenu implements BaseMenu {
 
     @Override
     public void refresh(Player player) {
-        inventory.clear();
-        MenuUtil.frame(inventory, Material.GREEN_STAINED_GLASS_PANE, "§0");
+        render(player);
+        canvas.apply();
+    }
 
+    private void render(Player player) {
         QuestProgressView view = questManager.getQuestView(player, questId);
         if (view == null) {
-            inventory.setItem(13, MenuUtil.item(Material.BARRIER, "§cQuest Not Found", List.of("§7This quest is no longer active.")));
+            canvas.reset(MISSING_TEMPLATE);
             return;
         }
+        canvas.reset(TEMPLATE);
 
         boolean canClaim = view.state().completed() && !view.state().claimed();
-        inventory.setItem(11, MenuUtil.item(Material.GOLD_BLOCK, "§6" + view.quest().title(), List.of(
+        canvas.setItem(11, MenuUtil.item(Material.GOLD_BLOCK, "§6" + view.quest().title(), List.of(
                 "§7Progress: §f" + view.state().progress() + "§7/§f" + view.state().target(),
                 "§7Ready: " + (canClaim ? "§aYes" : "§cNo")
         )));
 
-        inventory.setItem(13, MenuUtil.item(canClaim ? Material.LIME_CONCRETE : Material.GRAY_CONCRETE,
+        canvas.setItem(13, MenuUtil.item(canClaim ? Material.LIME_CONCRETE : Material.GRAY_CONCRETE,
                 canClaim ? "§a§lClaim Now" : "§7Unavailable",
                 List.of(
                         canClaim ? "§7Click to receive reward pack" : "§7Complete quest first"
                 )));
-
-        inventory.setItem(15, MenuUtil.item(Material.ARROW, "§fBack", List.of("§7Return to details")));
     }
 }
@@ -1,6 +1,8 @@
 package com.avertox.questsystem.gui.menu;
 
 import com.avertox.questsystem.gui.BaseMenu;
+import com.avertox.questsystem.gui.MenuCanvas;
+import com.avertox.questsystem.gui.MenuTemplate;
 import com.avertox.questsystem.gui.MenuManager;
 import com.avertox.questsystem.gui.MenuUtil;
 import com.avertox.questsystem.model.PlayerQuestState;
@@ -18,16 +20,31 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class QuestDetailsMenu implements BaseMenu {
+    private static final MenuTemplate MISSING_TEMPLATE = MenuTemplate.builder(45)
+            .frame(Material.BLUE_STAINED_GLASS_PANE, "§0")
+            .set(22, MenuUtil.item(Material.BARRIER, "§cQuest Unavailable", List.of(
+                    "§7This quest is no longer active."
+            )))
+            .set(40, MenuUtil.item(Material.ARROW, "§fBack", List.of("§7Return to quest hub")))
+            .build();
+    private static final MenuTemplate TEMPLATE = MenuTemplate.builder(45)
+            .frame(Material.BLUE_STAINED_GLASS_PANE, "§0")
+            .set(40, MenuUtil.item(Material.ARROW, "§fBack", List.of("§7Return to quest hub")))
+            .set(44, MenuUtil.item(Material.WRITABLE_BOOK, "§dHistory", List.of("§7Open completion history")))
+            .build();
+
     private final QuestManager questManager;
     private final MenuManager menuManager;
     private final String questId;
     private final Inventory inventory;
+    private final MenuCanvas canvas;
 
     public QuestDetailsMenu(QuestManager questManager, MenuManager menuManager, String questId) {
         this.questManager = questManager;
         this.menuManager = menuManager;
         this.questId = questId;
         this.inventory = Bukkit.createInventory(null, 45, "§9§lQuest Details");
+        this.canvas = new MenuCanvas(inventory);
     }
 
     @Override
@@ -62,58 +79,55 @@ public class QuestDetailsMenu implements BaseMenu {
 
     @Override
     public void refresh(Player player) {
-        inventory.clear();
-        MenuUtil.frame(inventory, Material.BLUE_STAINED_GLASS_PANE, "§0");
+        render(player);
+        canvas.apply();
+    }
 
+    private void render(Player player) {
         QuestProgressView view = questManager.getQuestView(player, questId);
         if (view == null) {
-            inventory.setItem(22, MenuUtil.item(Material.BARRIER, "§cQuest Unavailable", List.of(
-                    "§7This quest is no longer active."
-            )));
-            inventory.setItem(40, MenuUtil.item(Material.ARROW, "§fBack", List.of("§7Return to quest hub")));
+            canvas.reset(MISSING_TEMPLATE);
             return;
         }
+        canvas.reset(TEMPLATE);
 
         Quest quest = view.quest();
         PlayerQuestState state = view.state();
 
-        inventory.setItem(4, MenuUtil.item(Material.ENCHANTED_BOOK, "§b§l" + quest.title(), List.of(
+        canvas.setItem(4, MenuUtil.item(Material.ENCHANTED_BOOK, "§b§l" + quest.title(), List.of(
                 "§7Type: §f" + quest.type().display(),
                 "§7Task: §f" + quest.task().describeTarget()
         )));
 
-        inventory.setItem(20, MenuUtil.item(Material.PAPER, "§fObjective", List.of(
+        canvas.setItem(20, MenuUtil.item(Material.PAPER, "§fObjective", List.of(
                 "§7" + quest.description(),
                 "§8",
                 "§7Need: §f" + state.target(),
                 "§7Remaining: §f" + state.remaining()
         )));
 
-        inventory.setItem(22, MenuUtil.item(Material.CLOCK, "§eProgress", List.of(
+        canvas.setItem(22, MenuUtil.item(Material.CLOCK, "§eProgress", List.of(
                 "§7Current: §f" + state.progress() + "§7/§f" + state.target(),
                 MenuUtil.bar(state.progressPercent()),
                 "§7Completion: §f" + String.format("%.2f", state.progressPercent()) + "%"
         )));
 
-        inventory.setItem(24, rewardItem(quest));
+        canvas.setItem(24, rewardItem(quest));
 
         if (state.completed() && !state.claimed()) {
-            inventory.setItem(31, MenuUtil.item(Material.LIME_CONCRETE, "§a§lClaim Reward", List.of(
+            canvas.setItem(31, MenuUtil.item(Material.LIME_CONCRETE, "§a§lClaim Reward", List.of(
                     "§7You completed this quest.",
                     "§fClick to claim rewards"
             )));
         } else if (state.claimed()) {
-            inventory.setItem(31, MenuUtil.item(Material.GREEN_STAINED_GLASS_PANE, "§aReward Claimed", List.of(
+            canvas.setItem(31, MenuUtil.item(Material.GREEN_STAINED_GLASS_PANE, "§aReward Claimed", List.of(
                     "§7Rewards already collected."
             )));
         } else {
-            inventory.setItem(31, MenuUtil.item(Material.GRAY_CONCRETE, "§7Not Complete Yet", List.of(
+            canvas.setItem(31, MenuUtil.item(Material.GRAY_CONCRETE, "§7Not Complete Yet", List.of(
                     "§7Finish objective to unlock claim."
             )));
         }
-
-        inventory.setItem(40, MenuUtil.item(Material.ARROW, "§fBack", List.of("§7Return to quest hub")));
-        inventory.setItem(44, MenuUtil.item(Material.WRITABLE_BOOK, "§dHistory", List.of("§7Open completion history")));
     }
 
     private ItemStack rewardItem(Quest quest) {
@@ -1,8 +1,11 @@
 package com.avertox.questsystem.gui.menu;
 
 import com.avertox.questsystem.gui.BaseMenu;
+import com.avertox.questsystem.gui.MenuCanvas;
+import com.avertox.questsystem.gui.MenuTemplate;
 import com.avertox.questsystem.gui.MenuManager;
 import com.avertox.questsystem.gui.MenuUtil;
+import com.avertox.questsystem.model.QuestHistoryEntry;
 import com.avertox.questsystem.quest.QuestManager;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -18,15 +21,21 @@ import java.util.List;
 public class QuestHistoryMenu implements BaseMenu {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
             .withZone(ZoneId.systemDefault());
+    private static final MenuTemplate TEMPLATE = MenuTemplate.builder(54)
+            .frame(Material.PURPLE_STAINED_GLASS_PANE, "§0")
+            .set(49, MenuUtil.item(Material.ARROW, "§fBack", List.of("§7Return to quest hub")))
+            .build();
 
     private final QuestManager questManager;
     private final MenuManager menuManager;
     private final Inventory inventory;
+    private final MenuCanvas canvas;
 
     public QuestHistoryMenu(QuestManager questManager, MenuManager menuManager) {
         this.questManager = questManager;
         this.menuManager = menuManager;
         this.inventory = Bukkit.createInventory(null, 54, "§d§lQuest History");
+        this.canvas = new MenuCanvas(inventory);
     }
 
     @Override
@@ -52,31 +61,34 @@ public class QuestHistoryMenu implements BaseMenu {
 
     @Override
     public void refresh(Player player) {
-        inventory.clear();
-        MenuUtil.frame(inventory, Material.PURPLE_STAINED_GLASS_PANE, "§0");
+        render(player);
+        canvas.apply();
+    }
+
+    private void render(Player player) {
+        canvas.reset(TEMPLATE);
 
-        List<String> history = questManager.getHistory(player);
+        List<QuestHistoryEntry> history = questManager.getHistory(player);
         int slot = 10;
         int shown = 0;
 
-        for (String line : history) {
+        for (QuestHistoryEntry entry : history) {
             if (shown >= 21) {
                 break;
             }
-            String[] split = line.split("\\|");
-            String questId = split.length > 0 ? split[0] : "unknown";
-            String title = split.length > 1 ? split[1] : questId;
-            String time = split.length > 2 ? formatEpoch(split[2]) : "unknown";
-            String status = split.length > 3 ? split[3] : "DONE";
-
-            Material icon = switch (status.toUpperCase()) {
-                case "CLAIMED" -> Material.EMERALD;
-                case "COMPLETED" -> Material.LIME_DYE;
-                case "EXPIRED" -> Material.GRAY_DYE;
+            String questId = entry.questId();
+            String title = entry.title();
+            String time = formatEpoch(entry.timestamp());
+            String status = entry.status().name();
+
+            Material icon = switch (entry.status()) {
+                case CLAIMED -> Material.EMERALD;
+                case COMPLETED -> Material.LIME_DYE;
+                case EXPIRED -> Material.GRAY_DYE;
                 default -> Material.PAPER;
             };
 
-            inventory.setItem(slot, MenuUtil.item(icon, "§f" + title, List.of(
+            canvas.setItem(slot, MenuUtil.item(icon, "§f" + title, List.of(
                     "§7Quest: §f" + questId,
                     "§7Status: §f" + status,
                     "§7Time: §f" + time
@@ -87,12 +99,10 @@ public class QuestHistoryMenu implements BaseMenu {
         }
 
         if (shown == 0) {
-            inventory.setItem(22, MenuUtil.item(Material.BARRIER, "§cNo History Yet", List.of(
+            canvas.setItem(22, MenuUtil.item(Material.BARRIER, "§cNo History Yet", List.of(
                     "§7Complete quests to build history."
             )));
         }
-
-        inventory.setItem(49, MenuUtil.item(Material.ARROW, "§fBack", List.of("§7Return to quest hub")));
     }
 
     private int nextSlot(int slot) {
@@ -103,11 +113,10 @@ public class QuestHistoryMenu implements BaseMenu {
         return next;
     }
 
-    private String formatEpoch(String raw) {
-        try {
-            return FORMATTER.format(Instant.ofEpochMilli(Long.parseLong(raw)));
-        } catch (NumberFormatException ex) {
+    private String formatEpoch(long epochMillis) {
+        if (epochMillis <= 0L) {
             return "unknown";
         }
+        return FORMATTER.format(Instant.ofEpochMilli(epochMillis));
     }
 }
@@ -1,6 +1,8 @@
 package com.avertox.questsystem.gui.menu;
 
 import com.avertox.questsystem.gui.BaseMenu;
+import com.avertox.questsystem.gui.MenuCanvas;
+import com.avertox.questsystem.gui.MenuTemplate;
 import com.avertox.questsystem.gui.MenuManager;
 import com.avertox.questsystem.gui.MenuUtil;
 import com.avertox.questsystem.quest.QuestManager;
@@ -13,21 +15,26 @@ import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class QuestMainMenu implements BaseMenu {
+    private static final MenuTemplate TEMPLATE = buildTemplate();
+
     private final QuestManager questManager;
     private final MenuManager menuManager;
     private final Inventory inventory;
+    private final MenuCanvas canvas;
     private final Map<Integer, String> questSlots = new HashMap<>();
 
     public QuestMainMenu(QuestManager questManager, MenuManager menuManager) {
         this.questManager = questManager;
         this.menuManager = menuManager;
         this.inventory = Bukkit.createInventory(null, 54, "§6§lAvertox Quest Nexus");
+        this.canvas = new MenuCanvas(inventory);
     }
 
     @Override
@@ -65,17 +72,13 @@ public class QuestMainMenu implements BaseMenu {
 
     @Override
     public void refresh(Player player) {
-        inventory.clear();
-        questSlots.clear();
-
-        MenuUtil.frame(inventory, Material.BLACK_STAINED_GLASS_PANE, "§0");
-        fillGradient();
+        render(player);
+        canvas.apply();
+    }
 
-        inventory.setItem(4, MenuUtil.item(Material.NETHER_STAR, "§6§lAvertox Quest Nexus", List.of(
-                "§7Live contracts updated in real-time.",
-                "§7Complete objectives, claim rewards,",
-                "§7and track your legacy from one hub."
-        )));
+    private void render(Player player) {
+        questSlots.clear();
+        canvas.reset(TEMPLATE);
 
         List<QuestProgressView> active = questManager.getActiveQuests(player);
         int[] slots = new int[]{19, 20, 21, 22, 23, 24, 25, 28, 29, 30, 31, 32, 33, 34};
@@ -102,34 +105,40 @@ public class QuestMainMenu implements BaseMenu {
                     "§bClick for full details"
             );
 
-            inventory.setItem(slot, MenuUtil.item(typeIcon(quest.type()), title(quest, state), lore));
+            canvas.setItem(slot, MenuUtil.item(typeIcon(quest.type()), title(quest, state), lore));
             questSlots.put(slot, quest.id());
         }
 
         if (active.isEmpty()) {
-            inventory.setItem(22, MenuUtil.item(Material.BARRIER, "§cNo Active Quests", List.of(
+            canvas.setItem(22, MenuUtil.item(Material.BARRIER, "§cNo Active Quests", List.of(
                     "§7No contracts are currently active.",
                     "§7Use §f/quest reload §7or wait for reset cycle."
             )));
         }
 
-        inventory.setItem(49, MenuUtil.item(Material.WRITABLE_BOOK, "§dQuest History", List.of(
-                "§7Review your latest completions",
-                "§7and claim timeline."
-        )));
-        inventory.setItem(50, MenuUtil.item(Material.CLOCK, "§bRefresh", List.of(
-                "§7Refresh this dashboard now."
-        )));
     }
 
-    private void fillGradient() {
+    private static MenuTemplate buildTemplate() {
+        MenuTemplate.Builder template = MenuTemplate.builder(54).frame(Material.BLACK_STAINED_GLASS_PANE, "§0");
+        ItemStack gray = MenuUtil.glass(Material.GRAY_STAINED_GLASS_PANE, "§0");
+        ItemStack lightGray = MenuUtil.glass(Material.LIGHT_GRAY_STAINED_GLASS_PANE, "§0");
         for (int i = 1; i < 8; i++) {
-            if (i % 2 == 0) {
-                inventory.setItem(i, MenuUtil.glass(Material.GRAY_STAINED_GLASS_PANE, "§0"));
-            } else {
-                inventory.setItem(i, MenuUtil.glass(Material.LIGHT_GRAY_STAINED_GLASS_PANE, "§0"));
-            }
+            template.set(i, i % 2 == 0 ? gray : lightGray);
         }
+        return template
+                .set(4, MenuUtil.item(Material.NETHER_STAR, "§6§lAvertox Quest Nexus", List.of(
+                        "§7Live contracts updated in real-time.",
+                        "§7Complete objectives, claim rewards,",
+                        "§7and track your legacy from one hub."
+                )))
+                .set(49, MenuUtil.item(Material.WRITABLE_BOOK, "§dQuest History", List.of(
+                        "§7Review your latest completions",
+                        "§7and claim timeline."
+                )))
+                .set(50, MenuUtil.item(Material.CLOCK, "§bRefresh", List.of(
+                        "§7Refresh this dashboard now."
+                )))
+                .build();
     }
 
     private Material typeIcon(QuestType type) {
@@ -0,0 +1,96 @@
+package com.avertox.questsystem.listener;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Collects drop-rate bonus items per block position during a tick and spawns them where they were
+ * mined, as merged stacks, once on the next tick instead of one item entity per bonus drop.
+ * {@link #flush()} must also run on disable so nothing pending is lost.
+ */
+class BonusDropBatcher {
+    private final JavaPlugin plugin;
+    private final Map<BlockKey, PendingDrops> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    BonusDropBatcher(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    void add(Block block, Collection<ItemStack> drops) {
+        if (drops.isEmpty()) {
+            return;
+        }
+        BlockKey key = new BlockKey(block.getWorld().getUID(), block.getX(), block.getY(), block.getZ());
+        PendingDrops bucket = pending.computeIfAbsent(key, ignored -> new PendingDrops(block.getLocation()));
+        for (ItemStack drop : drops) {
+            bucket.merge(drop);
+        }
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::flush);
+        }
+    }
+
+    void flush() {
+        flushScheduled = false;
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PendingDrops> buckets = new ArrayList<>(pending.values());
+        pending.clear();
+        for (PendingDrops bucket : buckets) {
+            bucket.spawn();
+        }
+    }
+
+    private record BlockKey(UUID worldId, int x, int y, int z) {
+    }
+
+    private static final class PendingDrops {
+        private final Location location;
+        private final List<ItemStack> stacks = new ArrayList<>();
+
+        private PendingDrops(Location location) {
+            this.location = location;
+        }
+
+        void merge(ItemStack drop) {
+            for (ItemStack stack : stacks) {
+                if (stack.isSimilar(drop)) {
+                    stack.setAmount(stack.getAmount() + drop.getAmount());
+                    return;
+                }
+            }
+            stacks.add(drop.clone());
+        }
+
+        void spawn() {
+            World world = location.getWorld();
+            if (world == null) {
+                return;
+            }
+            for (ItemStack stack : stacks) {
+                int remaining = stack.getAmount();
+                int max = Math.max(1, stack.getMaxStackSize());
+                while (remaining > 0) {
+                    ItemStack part = stack.clone();
+                    part.setAmount(Math.min(max, remaining));
+                    remaining -= part.getAmount();
+                    world.dropItemNaturally(location, part);
+                }
+            }
+        }
+    }
+}
@@ -3,8 +3,9 @@ package com.avertox.questsystem.listener;
 import com.avertox.questsystem.event.EventManager;
 import com.avertox.questsystem.model.QuestAction;
 import com.avertox.questsystem.quest.QuestManager;
+import com.avertox.questsystem.util.MiningToolTable;
+import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.Tag;
 import org.bukkit.block.Block;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
@@ -19,60 +20,77 @@ import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.inventory.CraftItemEvent;
 import org.bukkit.event.player.PlayerAnimationEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 
 public class QuestProgressListener implements Listener {
     private static final long MINING_HIT_TIMEOUT_MS = 1800L;
     private static final int MAX_MINING_TARGET_DISTANCE = 6;
     private static final int BASE_BREAK_HITS = 5;
+    private static final double RETRACE_MOVE_DISTANCE_SQUARED = 0.01D;
+    private static final float RETRACE_LOOK_DEGREES = 3F;
+    private static final long RETRACE_MIN_INTERVAL_MS = 100L;
 
     private final QuestManager questManager;
     private final EventManager eventManager;
+    private final BonusDropBatcher bonusDrops;
     private final Map<UUID, MiningHitState> miningHitStates = new ConcurrentHashMap<>();
+    private volatile MiningToolTable toolTable = MiningToolTable.build();
+    private double cachedHitsMultiplier = Double.NaN;
+    private int cachedRequiredHits = BASE_BREAK_HITS;
+    private final LongAdder rayTraces = new LongAdder();
 
-    public QuestProgressListener(QuestManager questManager, EventManager eventManager) {
+    public QuestProgressListener(JavaPlugin plugin, QuestManager questManager, EventManager eventManager) {
         this.questManager = questManager;
         this.eventManager = eventManager;
+        this.bonusDrops = new BonusDropBatcher(plugin);
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onBlockDamage(BlockDamageEvent event) {
         double multiplier = eventManager.miningSpeedMultiplier();
         if (multiplier <= 1D || event.getInstaBreak()) {
-            miningHitStates.remove(event.getPlayer().getUniqueId());
+            clearMiningState(event.getPlayer().getUniqueId());
             return;
         }
 
         Material blockType = event.getBlock().getType();
         if (!isSupportedMiningBlock(blockType) || !isMatchingTool(event.getPlayer(), blockType)) {
-            miningHitStates.remove(event.getPlayer().getUniqueId());
+            clearMiningState(event.getPlayer().getUniqueId());
             return;
         }
 
         // Deterministic server-side mining assist so actual break speed matches event multiplier.
         UUID uuid = event.getPlayer().getUniqueId();
         long now = System.currentTimeMillis();
-        String key = blockKey(event.getBlock());
+        Block block = event.getBlock();
+        UUID worldId = block.getWorld().getUID();
+        long position = packPosition(block.getX(), block.getY(), block.getZ());
 
-        MiningHitState previous = miningHitStates.get(uuid);
+        MiningHitState state = miningHitStates.computeIfAbsent(uuid, ignored -> new MiningHitState());
         int hits = 1;
-        if (previous != null && previous.blockKey().equals(key) && (now - previous.lastHitMs()) <= MINING_HIT_TIMEOUT_MS) {
-            hits = previous.hits() + 1;
+        if (state.isTracking(worldId, position) && (now - state.lastHitMs) <= MINING_HIT_TIMEOUT_MS) {
+            hits = state.hits + 1;
         }
 
         int requiredHits = requiredHitsFor(multiplier);
         if (hits >= requiredHits) {
             event.setInstaBreak(true);
-            miningHitStates.remove(uuid);
+            state.clear();
             return;
         }
-        miningHitStates.put(uuid, new MiningHitState(key, hits, now));
+        state.track(block, worldId, position, hits, now);
+        state.recordView(event.getPlayer());
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
@@ -80,61 +98,79 @@ public class QuestProgressListener implements Listener {
         double multiplier = eventManager.miningSpeedMultiplier();
         UUID uuid = event.getPlayer().getUniqueId();
         if (multiplier <= 1D) {
-            miningHitStates.remove(uuid);
+            clearMiningState(uuid);
             return;
         }
 
         MiningHitState state = miningHitStates.get(uuid);
-        if (state == null) {
+        if (state == null || !state.active) {
             return;
         }
 
         long now = System.currentTimeMillis();
-        if ((now - state.lastHitMs()) > MINING_HIT_TIMEOUT_MS) {
-            miningHitStates.remove(uuid);
+        if ((now - state.lastHitMs) > MINING_HIT_TIMEOUT_MS) {
+            state.clear();
             return;
         }
 
         Player player = event.getPlayer();
-        Block target = player.getTargetBlockExact(MAX_MINING_TARGET_DISTANCE);
+        Block target;
+        if (!state.viewChanged(player)) {
+            // Same stance as the last hit: still looking at the block recorded from BlockDamageEvent.
+            target = state.block;
+        } else {
+            if ((now - state.lastTraceMs) < RETRACE_MIN_INTERVAL_MS) {
+                return;
+            }
+            state.lastTraceMs = now;
+            rayTraces.increment();
+            target = player.getTargetBlockExact(MAX_MINING_TARGET_DISTANCE);
+            state.recordView(player);
+        }
         if (target == null || target.getType() == Material.AIR) {
-            miningHitStates.remove(uuid);
+            state.clear();
             return;
         }
 
         Material blockType = target.getType();
-        if (!state.blockKey().equals(blockKey(target))
+        if (!state.isTracking(target.getWorld().getUID(), packPosition(target.getX(), target.getY(), target.getZ()))
                 || !isSupportedMiningBlock(blockType)
                 || !isMatchingTool(player, blockType)) {
-            miningHitStates.remove(uuid);
+            state.clear();
             return;
         }
 
-        int hits = state.hits() + 1;
+        int hits = state.hits + 1;
         int requiredHits = requiredHitsFor(multiplier);
         if (hits >= requiredHits) {
-            miningHitStates.remove(uuid);
+            state.clear();
             player.breakBlock(target);
             return;
         }
 
-        miningHitStates.put(uuid, new MiningHitState(state.blockKey(), hits, now));
+        state.hits = hits;
+        state.lastHitMs = now;
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onBlockDamageAbort(BlockDamageAbortEvent event) {
+        clearMiningState(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
         miningHitStates.remove(event.getPlayer().getUniqueId());
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
     public void onBlockBreak(BlockBreakEvent event) {
-        miningHitStates.remove(event.getPlayer().getUniqueId());
+        clearMiningState(event.getPlayer().getUniqueId());
 
         Player player = event.getPlayer();
         Block block = event.getBlock();
         Material type = block.getType();
 
-        questManager.onQuestAction(player, QuestAction.blockBreak(type, 1, block.getLocation()));
+        questManager.queueAction(player, QuestAction.blockBreak(type, 1, block.getLocation()));
         applyDropRateBoost(player, block);
     }
 
@@ -145,7 +181,7 @@ public class QuestProgressListener implements Listener {
             return;
         }
         EntityType type = event.getEntityType();
-        questManager.onQuestAction(killer, QuestAction.mobKill(type, event.getEntity().getLocation()));
+        questManager.queueAction(killer, QuestAction.mobKill(type, event.getEntity().getLocation()));
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
@@ -158,7 +194,7 @@ public class QuestProgressListener implements Listener {
             return;
         }
         int amount = Math.max(1, result.getAmount());
-        questManager.onQuestAction(player, QuestAction.craft(result.getType(), amount));
+        questManager.queueAction(player, QuestAction.craft(result.getType(), amount));
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
@@ -168,7 +204,7 @@ public class QuestProgressListener implements Listener {
         }
         ItemStack stack = event.getItem().getItemStack();
         if (stack.getType().isBlock()) {
-            questManager.onQuestAction(player, QuestAction.collect(stack.getType(), stack.getAmount(), event.getItem().getLocation()));
+            questManager.queueAction(player, QuestAction.collect(stack.getType(), stack.getAmount(), event.getItem().getLocation()));
         }
     }
 
@@ -179,6 +215,9 @@ public class QuestProgressListener implements Listener {
                 && event.getFrom().getBlockZ() == event.getTo().getBlockZ()) {
             return;
         }
+        if (!questManager.isNearTrackedVisitTarget(event.getPlayer(), event.getTo())) {
+            return;
+        }
         questManager.onQuestAction(event.getPlayer(), QuestAction.move(event.getTo()));
     }
 
@@ -194,48 +233,119 @@ public class QuestProgressListener implements Listener {
         }
 
         double bonusChance = Math.min(1D, multiplier - 1D);
+        List<ItemStack> bonus = new ArrayList<>(baseDrops.size());
         for (ItemStack drop : baseDrops) {
             if (ThreadLocalRandom.current().nextDouble() <= bonusChance) {
-                block.getWorld().dropItemNaturally(block.getLocation(), drop.clone());
+                bonus.add(drop);
             }
         }
+        bonusDrops.add(block, bonus);
+    }
+
+    /**
+     * Spawns bonus drops still waiting for their next-tick flush; called on disable.
+     */
+    public void flushBonusDrops() {
+        bonusDrops.flush();
+    }
+
+    public long rayTraceCount() {
+        return rayTraces.sum();
+    }
+
+    public void rebuildToolTable() {
+        this.toolTable = MiningToolTable.build();
     }
 
     private boolean isSupportedMiningBlock(Material blockType) {
-        return Tag.MINEABLE_PICKAXE.isTagged(blockType)
-                || Tag.MINEABLE_SHOVEL.isTagged(blockType)
-                || Tag.MINEABLE_AXE.isTagged(blockType);
+        return toolTable.isSupportedBlock(blockType);
     }
 
     private boolean isMatchingTool(Player player, Material blockType) {
-        Material held = player.getInventory().getItemInMainHand().getType();
-        if (held == Material.AIR) {
-            return false;
-        }
-        String heldName = held.name();
-        if (Tag.MINEABLE_PICKAXE.isTagged(blockType)) {
-            return heldName.endsWith("_PICKAXE");
-        }
-        if (Tag.MINEABLE_SHOVEL.isTagged(blockType)) {
-            return heldName.endsWith("_SHOVEL");
-        }
-        if (Tag.MINEABLE_AXE.isTagged(blockType)) {
-            return heldName.endsWith("_AXE");
-        }
-        return true;
+        return toolTable.isMatchingTool(player.getInventory().getItemInMainHand().getType(), blockType);
     }
 
     private int requiredHitsFor(double multiplier) {
-        if (multiplier <= 1D) {
-            return BASE_BREAK_HITS;
+        if (multiplier != cachedHitsMultiplier) {
+            cachedRequiredHits = multiplier <= 1D
+                    ? BASE_BREAK_HITS
+                    : Math.max(1, (int) Math.ceil(BASE_BREAK_HITS / multiplier));
+            cachedHitsMultiplier = multiplier;
         }
-        return Math.max(1, (int) Math.ceil(BASE_BREAK_HITS / multiplier));
+        return cachedRequiredHits;
     }
 
-    private String blockKey(Block block) {
-        return block.getWorld().getName() + ":" + block.getX() + ":" + block.getY() + ":" + block.getZ();
+    private void clearMiningState(UUID uuid) {
+        MiningHitState state = miningHitStates.get(uuid);
+        if (state != null) {
+            state.clear();
+        }
     }
 
-    private record MiningHitState(String blockKey, int hits, long lastHitMs) {
+    private static long packPosition(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    /**
+     * Reused per-player slot; mutated in place on the main thread so hits do not allocate.
+     */
+    private static final class MiningHitState {
+        private final Location view = new Location(null, 0D, 0D, 0D);
+        private boolean active;
+        private Block block;
+        private UUID worldId;
+        private long position;
+        private int hits;
+        private long lastHitMs;
+        private long lastTraceMs;
+        private double viewX;
+        private double viewY;
+        private double viewZ;
+        private float viewYaw;
+        private float viewPitch;
+
+        boolean isTracking(UUID world, long packedPosition) {
+            return active && position == packedPosition && world.equals(worldId);
+        }
+
+        void track(Block target, UUID world, long packedPosition, int hitCount, long now) {
+            active = true;
+            block = target;
+            worldId = world;
+            position = packedPosition;
+            hits = hitCount;
+            lastHitMs = now;
+        }
+
+        void recordView(Player player) {
+            player.getLocation(view);
+            viewX = view.getX();
+            viewY = view.getY();
+            viewZ = view.getZ();
+            viewYaw = view.getYaw();
+            viewPitch = view.getPitch();
+        }
+
+        boolean viewChanged(Player player) {
+            player.getLocation(view);
+            double dx = view.getX() - viewX;
+            double dy = view.getY() - viewY;
+            double dz = view.getZ() - viewZ;
+            if (dx * dx + dy * dy + dz * dz > RETRACE_MOVE_DISTANCE_SQUARED) {
+                return true;
+            }
+            float yaw = Math.abs(view.getYaw() - viewYaw) % 360F;
+            if (Math.min(yaw, 360F - yaw) > RETRACE_LOOK_DEGREES) {
+                return true;
+            }
+            return Math.abs(view.getPitch() - viewPitch) > RETRACE_LOOK_DEGREES;
+        }
+
+        void clear() {
+            active = false;
+            block = null;
+            worldId = null;
+            hits = 0;
+        }
     }
 }
@@ -0,0 +1,35 @@
+package com.avertox.questsystem.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event count. Increments are dropped while sampling is disabled.
+ */
+public final class Counter {
+    private final PluginMetrics metrics;
+    private final LongAdder count = new LongAdder();
+
+    Counter(PluginMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public void increment() {
+        if (metrics.enabled()) {
+            count.increment();
+        }
+    }
+
+    public void add(long amount) {
+        if (metrics.enabled()) {
+            count.add(amount);
+        }
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    void reset() {
+        count.reset();
+    }
+}
@@ -0,0 +1,134 @@
+package com.avertox.questsystem.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the plugin's hot-path counters, timers and gauges. Instruments are looked up once
+ * by the code that owns them and kept in fields; while sampling is disabled, counters and timers
+ * cost one volatile read per call. Gauges are read only when a report is built.
+ *
+ * <p>Names are dotted ({@code storage.save_profiles}) and may end in Prometheus-style labels,
+ * e.g. {@code quest.completed{type="daily"}}; {@link PrometheusEndpoint} exports them as such.
+ */
+public final class PluginMetrics {
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final Map<String, DoubleSupplier> doubleGauges = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<String>> textGauges = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    public PluginMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, ignored -> new Counter(this));
+    }
+
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, ignored -> new Timer(this));
+    }
+
+    /**
+     * Registers (or replaces) a gauge read on demand; the supplier must be safe to call from any thread.
+     */
+    public void gauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    public void doubleGauge(String name, DoubleSupplier supplier) {
+        doubleGauges.put(name, supplier);
+    }
+
+    /**
+     * Gauge whose value is a string such as an id; exported as a labelled sample.
+     */
+    public void textGauge(String name, Supplier<String> supplier) {
+        textGauges.put(name, supplier);
+    }
+
+    public Map<String, Long> counterValues() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.count()));
+        return values;
+    }
+
+    public Map<String, Timer.Snapshot> timerSnapshots() {
+        Map<String, Timer.Snapshot> values = new TreeMap<>();
+        timers.forEach((name, timer) -> values.put(name, timer.snapshot()));
+        return values;
+    }
+
+    public Map<String, Long> gaugeValues() {
+        Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        return values;
+    }
+
+    public Map<String, Double> doubleGaugeValues() {
+        Map<String, Double> values = new TreeMap<>();
+        doubleGauges.forEach((name, gauge) -> values.put(name, gauge.getAsDouble()));
+        return values;
+    }
+
+    public Map<String, String> textGaugeValues() {
+        Map<String, String> values = new TreeMap<>();
+        textGauges.forEach((name, gauge) -> {
+            String value = gauge.get();
+            values.put(name, value == null ? "" : value);
+        });
+        return values;
+    }
+
+    public void reset() {
+        counters.values().forEach(Counter::reset);
+        timers.values().forEach(Timer::reset);
+    }
+
+    /**
+     * One line per instrument, timers first, for chat and the server log.
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        timerSnapshots().forEach((name, snapshot) -> lines.add(String.format(Locale.ROOT,
+                "%s n=%d mean=%s p50=%s p95=%s p99=%s max=%s total=%s",
+                name, snapshot.count(), formatNanos(snapshot.meanNanos()), formatNanos(snapshot.p50Nanos()),
+                formatNanos(snapshot.p95Nanos()), formatNanos(snapshot.p99Nanos()),
+                formatNanos(snapshot.maxNanos()), formatNanos(snapshot.totalNanos()))));
+        counterValues().forEach((name, value) -> lines.add(name + " " + value));
+        gaugeValues().forEach((name, value) -> lines.add(name + " " + value));
+        doubleGaugeValues().forEach((name, value) -> lines.add(String.format(Locale.ROOT, "%s %.2f", name, value)));
+        textGaugeValues().forEach((name, value) -> lines.add(name + " " + (value.isEmpty() ? "-" : value)));
+        return lines;
+    }
+
+    public static String formatNanos(long nanos) {
+        if (nanos < 1_000L) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000L) {
+            return String.format(Locale.ROOT, "%.1fus", nanos / 1_000D);
+        }
+        if (nanos < 1_000_000_000L) {
+            return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000D);
+        }
+        return String.format(Locale.ROOT, "%.2fs", nanos / 1_000_000_000D);
+    }
+}
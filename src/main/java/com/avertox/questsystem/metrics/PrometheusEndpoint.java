@@ -0,0 +1,169 @@
+package com.avertox.questsystem.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves {@link PluginMetrics} at {@code /metrics} in the Prometheus text format from the JDK's
+ * built-in HTTP server, on one daemon thread off the main thread. Counters export as
+ * {@code avertox_<name>_total}, timers as summaries in seconds with a {@code _max} gauge, gauges
+ * as-is and text gauges as {@code avertox_<name>_info{value="..."} 1}.
+ */
+public final class PrometheusEndpoint {
+    private static final String PREFIX = "avertox_";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double NANOS_PER_SECOND = 1_000_000_000D;
+
+    private final PluginMetrics metrics;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public PrometheusEndpoint(PluginMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public synchronized void start(String host, int port) throws IOException {
+        stop();
+        HttpServer created = HttpServer.create(new InetSocketAddress(host, port), 0);
+        created.createContext("/metrics", this::handle);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AvertoxQuest-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        created.setExecutor(executor);
+        created.start();
+        server = created;
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1L);
+                return;
+            }
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1L);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    String render() {
+        StringBuilder out = new StringBuilder(4096);
+        Set<String> typed = new HashSet<>();
+
+        for (Map.Entry<String, Long> entry : metrics.counterValues().entrySet()) {
+            Name name = Name.parse(entry.getKey(), "_total");
+            type(out, typed, name.metric(), "counter");
+            sample(out, name.metric(), name.labels(), null, entry.getValue());
+        }
+        for (Map.Entry<String, Timer.Snapshot> entry : metrics.timerSnapshots().entrySet()) {
+            Name name = Name.parse(entry.getKey(), "_seconds");
+            Timer.Snapshot snapshot = entry.getValue();
+            type(out, typed, name.metric(), "summary");
+            sample(out, name.metric(), name.labels(), "quantile=\"0.5\"", seconds(snapshot.p50Nanos()));
+            sample(out, name.metric(), name.labels(), "quantile=\"0.95\"", seconds(snapshot.p95Nanos()));
+            sample(out, name.metric(), name.labels(), "quantile=\"0.99\"", seconds(snapshot.p99Nanos()));
+            sample(out, name.metric() + "_sum", name.labels(), null, seconds(snapshot.totalNanos()));
+            sample(out, name.metric() + "_count", name.labels(), null, snapshot.count());
+            type(out, typed, name.metric() + "_max", "gauge");
+            sample(out, name.metric() + "_max", name.labels(), null, seconds(snapshot.maxNanos()));
+        }
+        for (Map.Entry<String, Long> entry : metrics.gaugeValues().entrySet()) {
+            Name name = Name.parse(entry.getKey(), "");
+            type(out, typed, name.metric(), "gauge");
+            sample(out, name.metric(), name.labels(), null, entry.getValue());
+        }
+        for (Map.Entry<String, Double> entry : metrics.doubleGaugeValues().entrySet()) {
+            Name name = Name.parse(entry.getKey(), "");
+            type(out, typed, name.metric(), "gauge");
+            sample(out, name.metric(), name.labels(), null, entry.getValue());
+        }
+        for (Map.Entry<String, String> entry : metrics.textGaugeValues().entrySet()) {
+            Name name = Name.parse(entry.getKey(), "_info");
+            type(out, typed, name.metric(), "gauge");
+            if (!entry.getValue().isEmpty()) {
+                sample(out, name.metric(), name.labels(), "value=\"" + escape(entry.getValue()) + "\"", 1L);
+            }
+        }
+        return out.toString();
+    }
+
+    private static void type(StringBuilder out, Set<String> typed, String metric, String type) {
+        if (typed.add(metric)) {
+            out.append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+        }
+    }
+
+    private static void sample(StringBuilder out, String metric, String labels, String extraLabel, Object value) {
+        out.append(metric);
+        if (!labels.isEmpty() || extraLabel != null) {
+            out.append('{').append(labels);
+            if (extraLabel != null) {
+                out.append(labels.isEmpty() ? "" : ",").append(extraLabel);
+            }
+            out.append('}');
+        }
+        out.append(' ');
+        if (value instanceof Double number) {
+            out.append(String.format(Locale.ROOT, "%.9g", number));
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / NANOS_PER_SECOND;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Registry name split into a Prometheus metric name and its label body (without braces).
+     */
+    private record Name(String metric, String labels) {
+        static Name parse(String raw, String suffix) {
+            int brace = raw.indexOf('{');
+            String base = brace < 0 ? raw : raw.substring(0, brace);
+            String labels = brace < 0 || !raw.endsWith("}") ? "" : raw.substring(brace + 1, raw.length() - 1);
+            StringBuilder metric = new StringBuilder(PREFIX.length() + base.length() + suffix.length()).append(PREFIX);
+            for (int i = 0; i < base.length(); i++) {
+                char c = base.charAt(i);
+                metric.append(Character.isLetterOrDigit(c) || c == '_' || c == ':' ? c : '_');
+            }
+            return new Name(metric.append(suffix).toString().toLowerCase(Locale.ROOT), labels);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.avertox.questsystem.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets: values are bucketed by their
+ * highest set bit and the next {@value #SUB_BUCKET_BITS} bits, so any recorded value is reported
+ * within about 6% of its true size. While sampling is disabled {@link #start()} skips the clock
+ * read and {@link #stop(long)} records nothing.
+ */
+public final class Timer {
+    private static final long DISABLED = Long.MIN_VALUE;
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final PluginMetrics metrics;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    Timer(PluginMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public long start() {
+        return metrics.enabled() ? System.nanoTime() : DISABLED;
+    }
+
+    public void stop(long start) {
+        if (start != DISABLED) {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Whether {@code start} came from {@link #start()} with sampling on, for callers that would
+     * otherwise allocate a completion callback just to call {@link #stop(long)}.
+     */
+    public static boolean isSampled(long start) {
+        return start != DISABLED;
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long max = maxNanos.get();
+        return new Snapshot(
+                total,
+                total == 0L ? 0L : totalNanos.sum() / total,
+                valueAt(counts, total, 0.50D, max),
+                valueAt(counts, total, 0.95D, max),
+                valueAt(counts, total, 0.99D, max),
+                max,
+                totalNanos.sum()
+        );
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0L);
+        }
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Upper bound of the bucket at {@code index}, i.e. the largest value it can hold.
+     */
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << shift) - 1L;
+    }
+
+    private static long valueAt(long[] counts, long total, double quantile, long max) {
+        if (total == 0L) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, bucketUpperBound(i));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Point-in-time view; all values in nanoseconds. Recording continues while a snapshot is taken,
+     * so the fields can disagree by the few samples that raced it.
+     */
+    public record Snapshot(long count, long meanNanos, long p50Nanos, long p95Nanos, long p99Nanos,
+                           long maxNanos, long totalNanos) {
+    }
+}
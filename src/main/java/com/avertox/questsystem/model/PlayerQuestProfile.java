@@ -1,16 +1,17 @@
 package com.avertox.questsystem.model;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class PlayerQuestProfile {
+    public static final int HISTORY_CAPACITY = 60;
+
     private final UUID uuid;
     private final Map<String, PlayerQuestState> questStates;
-    private final List<String> history;
+    private final QuestHistory history;
+    private final AtomicLong version = new AtomicLong();
     private volatile long lastDailyReset;
     private volatile long lastWeeklyReset;
     private volatile long lastMonthlyReset;
@@ -18,7 +19,7 @@ public class PlayerQuestProfile {
     public PlayerQuestProfile(UUID uuid) {
         this.uuid = uuid;
         this.questStates = new ConcurrentHashMap<>();
-        this.history = Collections.synchronizedList(new ArrayList<>());
+        this.history = new QuestHistory(HISTORY_CAPACITY);
     }
 
     public UUID uuid() {
@@ -29,18 +30,28 @@ public class PlayerQuestProfile {
         return questStates;
     }
 
-    public List<String> history() {
+    public QuestHistory history() {
         return history;
     }
 
-    public void addHistory(String entry) {
-        if (entry == null || entry.isBlank()) {
-            return;
-        }
-        history.add(0, entry);
-        if (history.size() > 60) {
-            history.remove(history.size() - 1);
-        }
+    public void addHistory(QuestHistoryEntry entry) {
+        history.add(entry);
+    }
+
+    public boolean hasCompleted(String questId) {
+        return history.contains(questId);
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public void markModified() {
+        version.incrementAndGet();
+    }
+
+    public ProfileSnapshot snapshot() {
+        return ProfileSnapshot.of(this);
     }
 
     public long lastDailyReset() {
@@ -0,0 +1,64 @@
+package com.avertox.questsystem.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable copy of a {@link PlayerQuestProfile}, taken on the main thread and handed to
+ * storage so async writers never read state that is still being mutated.
+ */
+public record ProfileSnapshot(
+        UUID uuid,
+        long version,
+        long lastDailyReset,
+        long lastWeeklyReset,
+        long lastMonthlyReset,
+        List<QuestSnapshot> quests,
+        List<QuestHistoryEntry> history
+) {
+    public static ProfileSnapshot of(PlayerQuestProfile profile) {
+        List<QuestSnapshot> quests = new ArrayList<>(profile.questStates().size());
+        for (PlayerQuestState state : profile.questStates().values()) {
+            quests.add(QuestSnapshot.of(state));
+        }
+        return new ProfileSnapshot(
+                profile.uuid(),
+                profile.version(),
+                profile.lastDailyReset(),
+                profile.lastWeeklyReset(),
+                profile.lastMonthlyReset(),
+                Collections.unmodifiableList(quests),
+                Collections.unmodifiableList(profile.history().newestFirst())
+        );
+    }
+
+    public record QuestSnapshot(
+            String questId,
+            QuestType questType,
+            int progress,
+            int target,
+            boolean completed,
+            boolean claimed,
+            long assignedAt,
+            long completedAt,
+            long expiresAt,
+            long lastReset
+    ) {
+        public static QuestSnapshot of(PlayerQuestState state) {
+            return new QuestSnapshot(
+                    state.questId(),
+                    state.questType(),
+                    state.progress(),
+                    state.target(),
+                    state.completed(),
+                    state.claimed(),
+                    state.assignedAt(),
+                    state.completedAt(),
+                    state.expiresAt(),
+                    state.lastReset()
+            );
+        }
+    }
+}
@@ -4,6 +4,8 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.EntityType;
 
+import java.util.List;
+
 public class QuestAction {
     private final QuestActionType type;
     private final Material material;
@@ -75,4 +77,26 @@ public class QuestAction {
     public String externalKey() {
         return externalKey;
     }
+
+    /**
+     * Combines actions with the same type and match key into one with the summed amount and the
+     * first action's location; only for tasks that {@code acceptsMergedActions()}.
+     */
+    public static QuestAction merge(List<QuestAction> actions) {
+        QuestAction first = actions.get(0);
+        int total = 0;
+        for (QuestAction action : actions) {
+            total += action.amount;
+        }
+        return new QuestAction(first.type, first.material, first.entityType, first.location, total, first.externalKey);
+    }
+
+    public Object matchKey() {
+        return switch (type) {
+            case BLOCK_BREAK, ITEM_COLLECT, ITEM_CRAFT -> material;
+            case MOB_KILL -> entityType;
+            case EXTERNAL -> externalKey;
+            case PLAYER_MOVE -> null;
+        };
+    }
 }
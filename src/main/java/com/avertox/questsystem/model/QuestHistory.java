@@ -0,0 +1,69 @@
+package com.avertox.questsystem.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Fixed-capacity ring buffer of history entries, newest overwriting oldest, with a
+ * per-quest count so completion lookups do not scan the buffer.
+ */
+public class QuestHistory {
+    private final QuestHistoryEntry[] entries;
+    private final Map<String, Integer> questCounts = new HashMap<>();
+    private int head;
+    private int size;
+
+    public QuestHistory(int capacity) {
+        this.entries = new QuestHistoryEntry[Math.max(1, capacity)];
+    }
+
+    public synchronized void add(QuestHistoryEntry entry) {
+        if (entry == null) {
+            return;
+        }
+        QuestHistoryEntry evicted = entries[head];
+        if (size == entries.length && evicted != null) {
+            questCounts.computeIfPresent(key(evicted.questId()), (ignored, count) -> count <= 1 ? null : count - 1);
+        }
+        entries[head] = entry;
+        head = (head + 1) % entries.length;
+        size = Math.min(size + 1, entries.length);
+        questCounts.merge(key(entry.questId()), 1, Integer::sum);
+    }
+
+    public synchronized boolean contains(String questId) {
+        return questId != null && questCounts.containsKey(key(questId));
+    }
+
+    public synchronized List<QuestHistoryEntry> newestFirst() {
+        List<QuestHistoryEntry> output = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            output.add(entries[Math.floorMod(head - i, entries.length)]);
+        }
+        return output;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = null;
+        }
+        questCounts.clear();
+        head = 0;
+        size = 0;
+    }
+
+    private String key(String questId) {
+        return questId.toLowerCase(Locale.ROOT);
+    }
+}
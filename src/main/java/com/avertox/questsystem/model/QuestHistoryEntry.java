@@ -0,0 +1,35 @@
+package com.avertox.questsystem.model;
+
+public record QuestHistoryEntry(String questId, String title, long timestamp, QuestHistoryStatus status) {
+    public QuestHistoryEntry {
+        questId = questId == null || questId.isBlank() ? "unknown" : questId;
+        title = title == null || title.isBlank() ? questId : title;
+        status = status == null ? QuestHistoryStatus.DONE : status;
+    }
+
+    /**
+     * Parses the legacy {@code questId|title|timestamp|status} line format.
+     */
+    public static QuestHistoryEntry parseLegacy(String line, long fallbackTimestamp) {
+        if (line == null || line.isBlank()) {
+            return null;
+        }
+        String[] split = line.split("\\|");
+        String questId = split[0];
+        String title = split.length > 1 ? split[1] : questId;
+        long timestamp = fallbackTimestamp;
+        if (split.length > 2) {
+            try {
+                timestamp = Long.parseLong(split[2]);
+            } catch (NumberFormatException ignored) {
+                // keep fallback
+            }
+        }
+        QuestHistoryStatus status = QuestHistoryStatus.parse(split.length > 3 ? split[3] : null);
+        return new QuestHistoryEntry(questId, title, timestamp, status);
+    }
+
+    public String toLegacyLine() {
+        return questId + "|" + title + "|" + timestamp + "|" + status.name();
+    }
+}
@@ -0,0 +1,21 @@
+package com.avertox.questsystem.model;
+
+import java.util.Locale;
+
+public enum QuestHistoryStatus {
+    COMPLETED,
+    CLAIMED,
+    EXPIRED,
+    DONE;
+
+    public static QuestHistoryStatus parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return DONE;
+        }
+        try {
+            return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return DONE;
+        }
+    }
+}
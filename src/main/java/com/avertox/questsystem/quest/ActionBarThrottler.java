@@ -0,0 +1,106 @@
+package com.avertox.questsystem.quest;
+
+import com.avertox.questsystem.config.MainConfig;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Rate-limits progress action bars per player: at most one send per configured window, with the
+ * latest message in the window delivered when it closes and repeats of the last message dropped.
+ * Main thread only.
+ */
+class ActionBarThrottler {
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private final JavaPlugin plugin;
+    private final MainConfig config;
+    private final Map<UUID, Slot> slots = new HashMap<>();
+    private Class<?> resolvedClass;
+    private Method sendActionBar;
+
+    ActionBarThrottler(JavaPlugin plugin, MainConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
+    void send(Player player, String message) {
+        Slot slot = slots.computeIfAbsent(player.getUniqueId(), ignored -> new Slot());
+        long now = System.currentTimeMillis();
+        long wait = slot.lastSentMs + config.actionBarIntervalMillis() - now;
+        if (wait <= 0L) {
+            slot.pending = null;
+            deliver(player, slot, message, now);
+            return;
+        }
+        if (message.equals(slot.lastMessage)) {
+            slot.pending = null;
+            return;
+        }
+        slot.pending = message;
+        if (!slot.scheduled) {
+            slot.scheduled = true;
+            long ticks = Math.max(1L, (wait + MILLIS_PER_TICK - 1L) / MILLIS_PER_TICK);
+            UUID uuid = player.getUniqueId();
+            Bukkit.getScheduler().runTaskLater(plugin, () -> flushPending(uuid), ticks);
+        }
+    }
+
+    void forget(UUID uuid) {
+        slots.remove(uuid);
+    }
+
+    private void flushPending(UUID uuid) {
+        Slot slot = slots.get(uuid);
+        if (slot == null) {
+            return;
+        }
+        slot.scheduled = false;
+        String message = slot.pending;
+        slot.pending = null;
+        Player player = Bukkit.getPlayer(uuid);
+        if (message == null || player == null) {
+            return;
+        }
+        deliver(player, slot, message, System.currentTimeMillis());
+    }
+
+    private void deliver(Player player, Slot slot, String message, long now) {
+        slot.lastSentMs = now;
+        slot.lastMessage = message;
+        Method method = actionBarMethod(player.getClass());
+        if (method != null) {
+            try {
+                method.invoke(player, message);
+                return;
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                // Fall through to the title fallback below.
+            }
+        }
+        player.sendTitle("", message, 0, 20, 5);
+    }
+
+    private Method actionBarMethod(Class<?> playerClass) {
+        if (playerClass != resolvedClass) {
+            resolvedClass = playerClass;
+            try {
+                sendActionBar = playerClass.getMethod("sendActionBar", String.class);
+            } catch (NoSuchMethodException ex) {
+                sendActionBar = null;
+            }
+        }
+        return sendActionBar;
+    }
+
+    private static final class Slot {
+        private long lastSentMs;
+        private String lastMessage;
+        private String pending;
+        private boolean scheduled;
+    }
+}
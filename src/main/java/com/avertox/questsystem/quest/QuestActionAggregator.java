@@ -0,0 +1,71 @@
+package com.avertox.questsystem.quest;
+
+import com.avertox.questsystem.model.QuestAction;
+import com.avertox.questsystem.model.QuestActionType;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Groups bursty actions (vein mining, per-entity pickups) per player and (type, match key) within a
+ * tick and hands them to {@link QuestManager#onQueuedActions} on the next tick, which merges a group
+ * only when every task that can see it accepts merged actions. Progress from queued actions therefore
+ * lands one tick late; Bukkit has no end-of-tick hook to flush earlier. Main thread only.
+ */
+class QuestActionAggregator {
+    private final JavaPlugin plugin;
+    private final QuestManager questManager;
+    private final Map<UUID, Map<Key, List<QuestAction>>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    QuestActionAggregator(JavaPlugin plugin, QuestManager questManager) {
+        this.plugin = plugin;
+        this.questManager = questManager;
+    }
+
+    void submit(Player player, QuestAction action) {
+        pending.computeIfAbsent(player.getUniqueId(), ignored -> new LinkedHashMap<>())
+                .computeIfAbsent(new Key(action.type(), action.matchKey()), ignored -> new ArrayList<>(2))
+                .add(action);
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::flush);
+        }
+    }
+
+    void flush() {
+        flushScheduled = false;
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<UUID, Map<Key, List<QuestAction>>>> batch = new ArrayList<>(pending.entrySet());
+        pending.clear();
+        for (Map.Entry<UUID, Map<Key, List<QuestAction>>> entry : batch) {
+            dispatch(entry.getKey(), entry.getValue());
+        }
+    }
+
+    void flush(UUID uuid) {
+        Map<Key, List<QuestAction>> actions = pending.remove(uuid);
+        if (actions != null) {
+            dispatch(uuid, actions);
+        }
+    }
+
+    private void dispatch(UUID uuid, Map<Key, List<QuestAction>> actions) {
+        Player player = Bukkit.getPlayer(uuid);
+        if (player == null) {
+            return;
+        }
+        questManager.onQueuedActions(player, actions.values());
+    }
+
+    private record Key(QuestActionType type, Object matchKey) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.avertox.questsystem.quest;
+
+import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.PlayerQuestState;
+import com.avertox.questsystem.model.QuestAction;
+import com.avertox.questsystem.model.QuestActionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class QuestActionIndex {
+    private final long registryVersion;
+    private final Map<QuestActionType, Map<Object, List<Entry>>> keyed = new EnumMap<>(QuestActionType.class);
+    private final Map<QuestActionType, List<Entry>> wildcard = new EnumMap<>(QuestActionType.class);
+    private final List<Entry> unindexed = new ArrayList<>();
+    private final Set<QuestActionType> unmergeable = EnumSet.noneOf(QuestActionType.class);
+
+    private QuestActionIndex(long registryVersion) {
+        this.registryVersion = registryVersion;
+    }
+
+    public static QuestActionIndex build(PlayerQuestProfile profile, QuestRegistry registry) {
+        QuestActionIndex index = new QuestActionIndex(registry.version());
+        for (PlayerQuestState state : profile.questStates().values()) {
+            if (state.completed() || state.claimed()) {
+                continue;
+            }
+            Quest quest = registry.getQuest(state.questId());
+            if (quest == null || quest.task() == null) {
+                continue;
+            }
+            index.add(new Entry(quest, state));
+        }
+        return index;
+    }
+
+    public boolean isStale(QuestRegistry registry) {
+        return registryVersion != registry.version();
+    }
+
+    public List<Entry> keyed(QuestAction action) {
+        Object key = action.matchKey();
+        if (key == null) {
+            return Collections.emptyList();
+        }
+        Map<Object, List<Entry>> byKey = keyed.get(action.type());
+        if (byKey == null) {
+            return Collections.emptyList();
+        }
+        return byKey.getOrDefault(key, Collections.emptyList());
+    }
+
+    public List<Entry> wildcard(QuestActionType type) {
+        return wildcard.getOrDefault(type, Collections.emptyList());
+    }
+
+    public List<Entry> unindexed() {
+        return unindexed;
+    }
+
+    /**
+     * True if every task that can see actions of this type accepts merged actions; unindexed tasks
+     * see every type, so any of them rules merging out.
+     */
+    public boolean acceptsMerged(QuestActionType type) {
+        return unindexed.isEmpty() && !unmergeable.contains(type);
+    }
+
+    private void add(Entry entry) {
+        QuestTask task = entry.quest().task();
+        QuestActionType type = task.actionType();
+        if (type == null) {
+            unindexed.add(entry);
+            return;
+        }
+        if (!task.acceptsMergedActions()) {
+            unmergeable.add(type);
+        }
+        Object key = task.matchKey();
+        if (key == null) {
+            wildcard.computeIfAbsent(type, ignored -> new ArrayList<>()).add(entry);
+            return;
+        }
+        keyed.computeIfAbsent(type, ignored -> new HashMap<>())
+                .computeIfAbsent(key, ignored -> new ArrayList<>())
+                .add(entry);
+    }
+
+    public record Entry(Quest quest, PlayerQuestState state) {
+    }
+}
@@ -9,18 +9,24 @@ import com.avertox.questsystem.data.StorageManager;
 import com.avertox.questsystem.economy.EconomyService;
 import com.avertox.questsystem.event.EventManager;
 import com.avertox.questsystem.integration.QuestEligibilityProvider;
+import com.avertox.questsystem.metrics.Counter;
+import com.avertox.questsystem.metrics.PluginMetrics;
+import com.avertox.questsystem.metrics.Timer;
 import com.avertox.questsystem.model.PlayerQuestProfile;
 import com.avertox.questsystem.model.PlayerQuestState;
 import com.avertox.questsystem.model.QuestAction;
 import com.avertox.questsystem.model.QuestActionType;
+import com.avertox.questsystem.model.QuestHistoryEntry;
+import com.avertox.questsystem.model.QuestHistoryStatus;
 import com.avertox.questsystem.model.QuestReward;
 import com.avertox.questsystem.model.QuestType;
-import com.avertox.questsystem.util.TimeUtil;
+import com.avertox.questsystem.util.ResetCalendar;
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
 import org.bukkit.FireworkEffect;
 import org.bukkit.Location;
 import org.bukkit.Sound;
+import org.bukkit.World;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Firework;
 import org.bukkit.entity.Player;
@@ -29,22 +35,27 @@ import org.bukkit.inventory.meta.FireworkMeta;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class QuestManager {
+    private static final String[] PROGRESS_BARS = buildProgressBars();
+
     private final JavaPlugin plugin;
     private final MainConfig config;
     private final StorageManager storage;
@@ -54,7 +65,18 @@ public class QuestManager {
     private final QuestProgressTracker progressTracker;
     private final QuestStoryEventBus storyEventBus;
     private final Map<String, QuestEligibilityProvider> eligibilityProviders = new ConcurrentHashMap<>();
-
+    private final Map<UUID, QuestActionIndex> actionIndexes = new ConcurrentHashMap<>();
+    private final ResetScheduler resetScheduler = new ResetScheduler();
+    private final QuestActionAggregator actionAggregator;
+    private final ActionBarThrottler actionBars;
+    private final Timer actionTimer;
+    private final Counter actionsProcessed;
+    private final Timer resetTimer;
+    private final Map<QuestType, Counter> completedByType = new EnumMap<>(QuestType.class);
+    private final Map<QuestType, Counter> claimedByType = new EnumMap<>(QuestType.class);
+    private volatile VisitTargetIndex visitTargetIndex;
+
+    private volatile ResetCalendar resetCalendar;
     private QuestUpdateNotifier updateNotifier;
     private BukkitTask resetTask;
 
@@ -66,7 +88,8 @@ public class QuestManager {
             EventManager eventManager,
             QuestRegistry questRegistry,
             QuestProgressTracker progressTracker,
-            QuestStoryEventBus storyEventBus
+            QuestStoryEventBus storyEventBus,
+            PluginMetrics metrics
     ) {
         this.plugin = plugin;
         this.config = config;
@@ -76,16 +99,43 @@ public class QuestManager {
         this.questRegistry = questRegistry;
         this.progressTracker = progressTracker;
         this.storyEventBus = storyEventBus;
+        this.actionAggregator = new QuestActionAggregator(plugin, this);
+        this.actionBars = new ActionBarThrottler(plugin, config);
+        this.actionTimer = metrics.timer("quest.action_batch");
+        this.actionsProcessed = metrics.counter("quest.actions_processed");
+        this.resetTimer = metrics.timer("quest.process_resets");
+        for (QuestType type : QuestType.values()) {
+            String label = "{type=\"" + type.name().toLowerCase(Locale.ROOT) + "\"}";
+            completedByType.put(type, metrics.counter("quest.completed" + label));
+            claimedByType.put(type, metrics.counter("quest.claimed" + label));
+        }
+        metrics.gauge("quest.loaded_profiles", () -> progressTracker.all().size());
+        metrics.gauge("quest.offline_cache_size", progressTracker::offlineCacheSize);
+        metrics.gauge("quest.offline_cache_hits", progressTracker::offlineCacheHits);
+        metrics.gauge("quest.offline_cache_misses", progressTracker::offlineCacheMisses);
+        metrics.gauge("quest.scheduled_resets", resetScheduler::size);
+        reloadResetCalendar();
+    }
+
+    public void reloadResetCalendar() {
+        this.resetCalendar = new ResetCalendar(
+                config.resetZone(),
+                config.weeklyResetDay(),
+                config.dailyResetHours(),
+                config.monthlyResetDays()
+        );
     }
 
     public void start() {
         if (resetTask != null) {
             resetTask.cancel();
         }
-        resetTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkAllResets, 200L, 1200L);
+        long period = config.resetCheckTicks();
+        resetTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkDueResets, period, period);
     }
 
     public void stop() {
+        actionAggregator.flush();
         if (resetTask != null) {
             resetTask.cancel();
             resetTask = null;
@@ -110,26 +160,99 @@ public class QuestManager {
         eligibilityProviders.remove(id.toLowerCase(Locale.ROOT));
     }
 
+    public void preloadPlayer(UUID uuid) {
+        CompletableFuture<Void> load = beginLoad(uuid);
+        try {
+            load.get(config.preloadTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            plugin.getLogger().warning("Quest profile for " + uuid + " is still loading after "
+                    + config.preloadTimeoutMillis() + "ms; buffering progress until it arrives.");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            plugin.getLogger().warning("Failed preloading quest profile for " + uuid + ": " + ex.getMessage());
+        }
+    }
+
+    public void discardPreload(UUID uuid) {
+        if (Bukkit.getPlayer(uuid) == null) {
+            progressTracker.remove(uuid);
+            invalidateActionIndex(uuid);
+            resetScheduler.cancel(uuid);
+        }
+    }
+
     public void loadPlayer(Player player) {
         UUID uuid = player.getUniqueId();
-        storage.loadPlayerProfile(uuid).thenAccept(profile -> Bukkit.getScheduler().runTask(plugin, () -> {
-            progressTracker.set(profile);
-            processResets(uuid, true);
-            notifyUpdated(player);
-        }));
+        if (progressTracker.isLoading(uuid)) {
+            return;
+        }
+        if (progressTracker.get(uuid) == null) {
+            beginLoad(uuid);
+            return;
+        }
+        onProfileReady(uuid, Collections.emptyList());
+    }
+
+    private CompletableFuture<Void> beginLoad(UUID uuid) {
+        if (!progressTracker.beginLoading(uuid)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        PlayerQuestProfile cached = progressTracker.takeOffline(uuid, offlineCacheTtlMillis());
+        if (cached != null) {
+            List<QuestAction> buffered = progressTracker.finishLoading(cached);
+            if (buffered != null) {
+                Bukkit.getScheduler().runTask(plugin, () -> onProfileReady(uuid, buffered));
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+        // A miss loads a new profile object whose version restarts at 0, so drop whatever storage kept
+        // for the previous one (including an entry that just expired out of the offline cache).
+        storage.releaseProfile(uuid);
+        return storage.loadPlayerProfile(uuid).thenAccept(profile -> {
+            List<QuestAction> buffered = progressTracker.finishLoading(profile);
+            if (buffered != null) {
+                Bukkit.getScheduler().runTask(plugin, () -> onProfileReady(uuid, buffered));
+            }
+        }).exceptionally(error -> {
+            progressTracker.cancelLoading(uuid);
+            plugin.getLogger().warning("Failed loading quest profile for " + uuid + ": " + error.getMessage());
+            return null;
+        });
+    }
+
+    private void onProfileReady(UUID uuid, List<QuestAction> buffered) {
+        Player player = Bukkit.getPlayer(uuid);
+        if (player == null || progressTracker.get(uuid) == null) {
+            return;
+        }
+        invalidateActionIndex(uuid);
+        processResets(uuid, true);
+        if (!buffered.isEmpty()) {
+            onQuestActions(player, buffered);
+        }
+        notifyUpdated(player);
     }
 
     public void unloadPlayer(Player player) {
+        actionAggregator.flush(player.getUniqueId());
         PlayerQuestProfile profile = progressTracker.remove(player.getUniqueId());
-        if (profile != null) {
-            storage.savePlayerProfile(profile);
+        invalidateActionIndex(player.getUniqueId());
+        resetScheduler.cancel(player.getUniqueId());
+        actionBars.forget(player.getUniqueId());
+        if (profile == null) {
+            return;
         }
+        List<UUID> evicted = progressTracker.cacheOffline(profile, config.offlineCacheSize(), offlineCacheTtlMillis());
+        storage.flushProfile(profile).whenComplete((ignored, error) -> evicted.forEach(storage::releaseProfile));
+    }
+
+    private long offlineCacheTtlMillis() {
+        return TimeUnit.SECONDS.toMillis(config.offlineCacheTtlSeconds());
     }
 
     public void saveAll() {
-        for (PlayerQuestProfile profile : progressTracker.all()) {
-            storage.savePlayerProfile(profile);
-        }
+        storage.flushDirty();
     }
 
     public boolean acceptQuest(Player player, String questId) {
@@ -138,6 +261,9 @@ public class QuestManager {
             return false;
         }
 
+        if (progressTracker.isLoading(player.getUniqueId())) {
+            return false;
+        }
         PlayerQuestProfile profile = progressTracker.getOrCreate(player.getUniqueId());
         if (!canAccept(player, quest)) {
             return false;
@@ -153,12 +279,17 @@ public class QuestManager {
         long expiry = calculateExpiry(quest.type(), now);
         PlayerQuestState state = PlayerQuestState.createFresh(quest.id(), quest.type(), quest.targetValue(), expiry, now);
         profile.questStates().put(key, state);
+        invalidateActionIndex(profile.uuid());
+        scheduleNextReset(profile, now);
         saveProfile(profile);
         notifyUpdated(player);
         return true;
     }
 
     public boolean completeQuest(Player player, String questId) {
+        if (progressTracker.isLoading(player.getUniqueId())) {
+            return false;
+        }
         PlayerQuestProfile profile = progressTracker.getOrCreate(player.getUniqueId());
         PlayerQuestState state = profile.questStates().get(questId.toLowerCase());
         if (state == null || !state.completed() || state.claimed()) {
@@ -172,7 +303,8 @@ public class QuestManager {
 
         applyRewards(player, quest.rewards());
         state.setClaimed(true);
-        profile.addHistory(historyLine(quest.id(), quest.title(), System.currentTimeMillis(), "CLAIMED"));
+        claimedByType.get(quest.type()).increment();
+        profile.addHistory(new QuestHistoryEntry(quest.id(), quest.title(), System.currentTimeMillis(), QuestHistoryStatus.CLAIMED));
 
         storyEventBus.fire("quest_reward_claimed", new QuestStoryContext(player, quest, Collections.emptyMap()));
 
@@ -182,7 +314,10 @@ public class QuestManager {
     }
 
     public double checkProgress(Player player, String questId) {
-        PlayerQuestProfile profile = progressTracker.getOrCreate(player.getUniqueId());
+        PlayerQuestProfile profile = progressTracker.get(player.getUniqueId());
+        if (profile == null) {
+            return 0D;
+        }
         PlayerQuestState state = profile.questStates().get(questId.toLowerCase());
         if (state == null) {
             return 0D;
@@ -190,13 +325,17 @@ public class QuestManager {
         return state.progressPercent();
     }
 
-    public void resetPlayer(UUID uuid) {
+    public boolean resetPlayer(UUID uuid) {
+        if (progressTracker.isLoading(uuid)) {
+            return false;
+        }
         PlayerQuestProfile profile = progressTracker.getOrCreate(uuid);
         profile.questStates().clear();
         profile.history().clear();
         profile.setLastDailyReset(0L);
         profile.setLastWeeklyReset(0L);
         profile.setLastMonthlyReset(0L);
+        invalidateActionIndex(uuid);
         processResets(uuid, true);
         saveProfile(profile);
 
@@ -204,52 +343,112 @@ public class QuestManager {
         if (player != null) {
             notifyUpdated(player);
         }
+        return true;
     }
 
     public void onQuestAction(Player player, QuestAction action) {
         if (action == null) {
             return;
         }
+        onQuestActions(player, List.of(action));
+    }
 
-        PlayerQuestProfile profile = progressTracker.getOrCreate(player.getUniqueId());
-        long now = System.currentTimeMillis();
-
-        boolean changed = false;
-        for (PlayerQuestState state : profile.questStates().values()) {
-            Quest quest = questRegistry.getQuest(state.questId());
-            if (quest == null) {
-                continue;
+    /**
+     * Queues an action to be coalesced with others of the same type and match key from this tick.
+     * It is applied on the next tick, not immediately.
+     */
+    public void queueAction(Player player, QuestAction action) {
+        if (action == null) {
+            return;
+        }
+        actionAggregator.submit(player, action);
+    }
+
+    /**
+     * Applies one tick's queued groups. A group is merged into a single summed action only if every
+     * task that can see its type accepts merged actions; otherwise each action is applied as queued.
+     */
+    void onQueuedActions(Player player, Collection<List<QuestAction>> groups) {
+        PlayerQuestProfile profile = progressTracker.isLoading(player.getUniqueId()) ? null : progressTracker.get(player.getUniqueId());
+        QuestActionIndex index = profile == null ? null : actionIndex(profile);
+        List<QuestAction> actions = new ArrayList<>(groups.size());
+        for (List<QuestAction> group : groups) {
+            if (group.size() > 1 && index != null && index.acceptsMerged(group.get(0).type())) {
+                actions.add(QuestAction.merge(group));
+            } else {
+                actions.addAll(group);
             }
+        }
+        onQuestActions(player, actions);
+    }
 
-            if (state.isExpired(now)) {
-                changed = true;
-                continue;
-            }
-            if (state.completed() || state.claimed()) {
-                continue;
-            }
-            if (!quest.task().matches(action)) {
+    void onQuestActions(Player player, Collection<QuestAction> actions) {
+        long start = actionTimer.start();
+        UUID uuid = player.getUniqueId();
+        PlayerQuestProfile profile = null;
+        long now = System.currentTimeMillis();
+        boolean changed = false;
+        int dispatched = 0;
+        for (QuestAction action : actions) {
+            if (progressTracker.bufferIfLoading(uuid, action, config.preloadMaxBufferedActions())) {
+                // Counted when the load finishes and the buffer is replayed.
                 continue;
             }
-
-            int previous = state.progress();
-            state.increment(quest.task().progressAmount(action));
-            state.setTarget(quest.targetValue());
-            if (state.progress() != previous) {
-                changed = true;
-                Bukkit.getPluginManager().callEvent(new QuestProgressUpdateEvent(player, quest, state));
-                sendProgressActionBar(player, quest, state);
-            }
-
-            if (state.completed()) {
-                onReachedCompletion(player, quest, state, profile);
-                changed = true;
+            dispatched++;
+            if (profile == null) {
+                profile = progressTracker.getOrCreate(uuid);
             }
+            // Re-read the index per action: a completion earlier in the batch invalidates it.
+            QuestActionIndex index = actionIndex(profile);
+            changed |= applyAction(player, profile, index.keyed(action), action, now);
+            changed |= applyAction(player, profile, index.wildcard(action.type()), action, now);
+            changed |= applyAction(player, profile, index.unindexed(), action, now);
         }
 
         if (changed) {
+            saveProfile(profile);
             notifyUpdated(player);
         }
+        actionsProcessed.add(dispatched);
+        actionTimer.stop(start);
+    }
+
+    public boolean isNearTrackedVisitTarget(Player player, Location to) {
+        World world = to.getWorld();
+        if (world == null) {
+            return false;
+        }
+        VisitTargetIndex index = visitTargetIndex;
+        if (index == null || index.isStale(questRegistry)) {
+            index = VisitTargetIndex.build(questRegistry);
+            visitTargetIndex = index;
+        }
+        if (index.isUnfiltered()) {
+            return true;
+        }
+        if (index.isEmpty()) {
+            return false;
+        }
+        VisitTargetIndex.Target[] candidates = index.candidates(world, to.getBlockX(), to.getBlockZ());
+        if (candidates == null) {
+            return false;
+        }
+
+        PlayerQuestProfile profile = progressTracker.get(player.getUniqueId());
+        for (VisitTargetIndex.Target target : candidates) {
+            if (!target.task().contains(to.getX(), to.getY(), to.getZ())) {
+                continue;
+            }
+            if (profile == null) {
+                // Profile still loading: let the action through so it is buffered.
+                return true;
+            }
+            PlayerQuestState state = profile.questStates().get(target.questKey());
+            if (state != null && !state.completed() && !state.claimed()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public void onExternalProgress(Player player, String sourceKey, int amount) {
@@ -257,7 +456,10 @@ public class QuestManager {
     }
 
     public List<QuestProgressView> getActiveQuests(Player player) {
-        PlayerQuestProfile profile = progressTracker.getOrCreate(player.getUniqueId());
+        PlayerQuestProfile profile = progressTracker.get(player.getUniqueId());
+        if (profile == null) {
+            return Collections.emptyList();
+        }
         List<QuestProgressView> list = new ArrayList<>();
         long now = System.currentTimeMillis();
 
@@ -281,7 +483,10 @@ public class QuestManager {
         if (questId == null || questId.isBlank()) {
             return null;
         }
-        PlayerQuestProfile profile = progressTracker.getOrCreate(player.getUniqueId());
+        PlayerQuestProfile profile = progressTracker.get(player.getUniqueId());
+        if (profile == null) {
+            return null;
+        }
         PlayerQuestState state = profile.questStates().get(questId.toLowerCase());
         if (state == null) {
             return null;
@@ -293,9 +498,12 @@ public class QuestManager {
         return new QuestProgressView(quest, state);
     }
 
-    public List<String> getHistory(Player player) {
-        PlayerQuestProfile profile = progressTracker.getOrCreate(player.getUniqueId());
-        return new ArrayList<>(profile.history());
+    public List<QuestHistoryEntry> getHistory(Player player) {
+        PlayerQuestProfile profile = progressTracker.get(player.getUniqueId());
+        if (profile == null) {
+            return Collections.emptyList();
+        }
+        return profile.history().newestFirst();
     }
 
     public Quest getQuestById(String questId) {
@@ -307,6 +515,10 @@ public class QuestManager {
     }
 
     public void processResets(UUID uuid, boolean assignIfMissing) {
+        if (progressTracker.isLoading(uuid)) {
+            return;
+        }
+        long start = resetTimer.start();
         PlayerQuestProfile profile = progressTracker.getOrCreate(uuid);
         long now = System.currentTimeMillis();
         boolean changed = false;
@@ -322,17 +534,17 @@ public class QuestManager {
             changed = true;
         }
 
-        if (TimeUtil.needsDailyReset(profile.lastDailyReset(), config.dailyResetHours())) {
+        if (resetCalendar.needsDailyReset(profile.lastDailyReset(), now)) {
             resetByType(profile, QuestType.DAILY, now);
             profile.setLastDailyReset(now);
             changed = true;
         }
-        if (TimeUtil.needsWeeklyReset(profile.lastWeeklyReset(), config.weeklyResetDay(), ZoneId.systemDefault())) {
+        if (resetCalendar.needsWeeklyReset(profile.lastWeeklyReset(), now)) {
             resetByType(profile, QuestType.WEEKLY, now);
             profile.setLastWeeklyReset(now);
             changed = true;
         }
-        if (TimeUtil.needsMonthlyReset(profile.lastMonthlyReset(), config.monthlyResetDays())) {
+        if (resetCalendar.needsMonthlyReset(profile.lastMonthlyReset(), now)) {
             resetByType(profile, QuestType.MONTHLY, now);
             profile.setLastMonthlyReset(now);
             changed = true;
@@ -344,21 +556,41 @@ public class QuestManager {
             changed |= assignMissing(profile, QuestType.MONTHLY, now);
         }
 
+        scheduleNextReset(profile, now);
         if (changed) {
+            invalidateActionIndex(uuid);
             saveProfile(profile);
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
                 notifyUpdated(player);
             }
         }
+        resetTimer.stop(start);
     }
 
-    private void checkAllResets() {
-        for (PlayerQuestProfile profile : progressTracker.all()) {
-            processResets(profile.uuid(), true);
+    private void checkDueResets() {
+        // Piggybacks the offline cache's TTL sweep so expired profiles leave even on a quiet server.
+        progressTracker.expireOffline(offlineCacheTtlMillis()).forEach(storage::releaseProfile);
+        for (UUID uuid : resetScheduler.pollDue(System.currentTimeMillis())) {
+            if (progressTracker.get(uuid) != null) {
+                processResets(uuid, true);
+            }
         }
     }
 
+    private void scheduleNextReset(PlayerQuestProfile profile, long now) {
+        long next = Long.MAX_VALUE;
+        for (PlayerQuestState state : profile.questStates().values()) {
+            if (state.expiresAt() > 0L) {
+                next = Math.min(next, state.expiresAt());
+            }
+        }
+        next = Math.min(next, resetCalendar.nextDailyReset(profile.lastDailyReset(), now));
+        next = Math.min(next, resetCalendar.nextWeeklyReset(profile.lastWeeklyReset(), now));
+        next = Math.min(next, resetCalendar.nextMonthlyReset(profile.lastMonthlyReset(), now));
+        resetScheduler.schedule(profile.uuid(), Math.max(now, next));
+    }
+
     private void resetByType(PlayerQuestProfile profile, QuestType questType, long now) {
         Iterator<Map.Entry<String, PlayerQuestState>> iterator = profile.questStates().entrySet().iterator();
         while (iterator.hasNext()) {
@@ -367,7 +599,7 @@ public class QuestManager {
             if (state.questType() == questType) {
                 iterator.remove();
                 if (state.completed() && !state.claimed()) {
-                    profile.addHistory(historyLine(state.questId(), state.questId(), now, "EXPIRED"));
+                    profile.addHistory(new QuestHistoryEntry(state.questId(), state.questId(), now, QuestHistoryStatus.EXPIRED));
                 }
             }
         }
@@ -396,7 +628,7 @@ public class QuestManager {
             if (profile.questStates().containsKey(key)) {
                 continue;
             }
-            if (!quest.repeatable() && hasCompleted(profile, quest.id())) {
+            if (!quest.repeatable() && profile.hasCompleted(quest.id())) {
                 continue;
             }
             long expiry = calculateExpiry(questType, now);
@@ -409,16 +641,6 @@ public class QuestManager {
         return changed;
     }
 
-    private boolean hasCompleted(PlayerQuestProfile profile, String questId) {
-        String needle = questId.toLowerCase(Locale.ROOT) + "|";
-        for (String history : profile.history()) {
-            if (history.toLowerCase(Locale.ROOT).startsWith(needle)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private int countByType(PlayerQuestProfile profile, QuestType type, long now) {
         int count = 0;
         for (PlayerQuestState state : profile.questStates().values()) {
@@ -430,25 +652,11 @@ public class QuestManager {
     }
 
     private long calculateExpiry(QuestType type, long now) {
-        if (type == QuestType.DAILY) {
-            return now + TimeUnit.HOURS.toMillis(config.dailyResetHours());
-        }
-        if (type == QuestType.MONTHLY) {
-            return now + TimeUnit.DAYS.toMillis(config.monthlyResetDays());
-        }
-        ZonedDateTime zonedNow = ZonedDateTime.now();
-        int current = zonedNow.getDayOfWeek().getValue();
-        int target = config.weeklyResetDay().getValue();
-        int daysUntil = (target - current + 7) % 7;
-        if (daysUntil == 0) {
-            daysUntil = 7;
-        }
-        return zonedNow.plusDays(daysUntil)
-                .withHour(0)
-                .withMinute(0)
-                .withSecond(0)
-                .withNano(0)
-                .toInstant().toEpochMilli();
+        return switch (type) {
+            case DAILY -> resetCalendar.dailyExpiry(now);
+            case WEEKLY -> resetCalendar.weeklyExpiry(now);
+            case MONTHLY -> resetCalendar.monthlyExpiry(now);
+        };
     }
 
     private boolean canAccept(Player player, Quest quest) {
@@ -464,9 +672,10 @@ public class QuestManager {
     }
 
     private void onReachedCompletion(Player player, Quest quest, PlayerQuestState state, PlayerQuestProfile profile) {
+        completedByType.get(quest.type()).increment();
         Bukkit.getPluginManager().callEvent(new QuestCompletedEvent(player, quest, state));
         storyEventBus.fire("quest_completed", new QuestStoryContext(player, quest, Collections.emptyMap()));
-        profile.addHistory(historyLine(quest.id(), quest.title(), System.currentTimeMillis(), "COMPLETED"));
+        profile.addHistory(new QuestHistoryEntry(quest.id(), quest.title(), System.currentTimeMillis(), QuestHistoryStatus.COMPLETED));
         playCompletionCelebration(player);
         player.sendMessage("§aQuest completed: §f" + quest.title() + " §7- claim your rewards in the quest menu.");
         saveProfile(profile);
@@ -496,8 +705,63 @@ public class QuestManager {
                 + " XP, §a" + economy.format(moneyAmount) + "§7, items delivered.");
     }
 
+    private boolean applyAction(
+            Player player,
+            PlayerQuestProfile profile,
+            List<QuestActionIndex.Entry> candidates,
+            QuestAction action,
+            long now
+    ) {
+        boolean changed = false;
+        for (int i = 0; i < candidates.size(); i++) {
+            QuestActionIndex.Entry entry = candidates.get(i);
+            Quest quest = entry.quest();
+            PlayerQuestState state = entry.state();
+
+            if (state.isExpired(now)) {
+                changed = true;
+                continue;
+            }
+            if (state.completed() || state.claimed()) {
+                continue;
+            }
+            if (!quest.task().matches(action)) {
+                continue;
+            }
+
+            int previous = state.progress();
+            state.increment(quest.task().progressAmount(action));
+            state.setTarget(quest.targetValue());
+            if (state.progress() != previous) {
+                changed = true;
+                Bukkit.getPluginManager().callEvent(new QuestProgressUpdateEvent(player, quest, state));
+                sendProgressActionBar(player, quest, state);
+            }
+
+            if (state.completed()) {
+                onReachedCompletion(player, quest, state, profile);
+                invalidateActionIndex(profile.uuid());
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private QuestActionIndex actionIndex(PlayerQuestProfile profile) {
+        QuestActionIndex index = actionIndexes.get(profile.uuid());
+        if (index == null || index.isStale(questRegistry)) {
+            index = QuestActionIndex.build(profile, questRegistry);
+            actionIndexes.put(profile.uuid(), index);
+        }
+        return index;
+    }
+
+    private void invalidateActionIndex(UUID uuid) {
+        actionIndexes.remove(uuid);
+    }
+
     private void saveProfile(PlayerQuestProfile profile) {
-        storage.savePlayerProfile(profile);
+        storage.markDirty(profile);
     }
 
     private void notifyUpdated(Player player) {
@@ -506,35 +770,26 @@ public class QuestManager {
         }
     }
 
-    private String historyLine(String questId, String title, long timestamp, String status) {
-        return questId + "|" + title + "|" + timestamp + "|" + status;
-    }
-
     private void sendProgressActionBar(Player player, Quest quest, PlayerQuestState state) {
-        String bar = buildProgressBar(state.progressPercent());
+        double percent = Math.max(0D, Math.min(100D, state.progressPercent()));
         String message = "§6" + quest.title()
                 + " §8| §f" + state.progress() + "/" + state.target()
-                + " §8| " + bar
+                + " §8| " + PROGRESS_BARS[(int) Math.round(percent / 10D)]
                 + " §e" + (int) Math.round(state.progressPercent()) + "%";
-        sendActionBarCompat(player, message);
+        actionBars.send(player, message);
     }
 
-    private String buildProgressBar(double percent) {
-        int filled = (int) Math.round(Math.max(0D, Math.min(100D, percent)) / 10D);
-        StringBuilder sb = new StringBuilder("§8[");
-        for (int i = 0; i < 10; i++) {
-            sb.append(i < filled ? "§a▌" : "§7▌");
-        }
-        sb.append("§8]");
-        return sb.toString();
-    }
-
-    private void sendActionBarCompat(Player player, String message) {
-        try {
-            player.getClass().getMethod("sendActionBar", String.class).invoke(player, message);
-        } catch (Exception ignored) {
-            player.sendTitle("", message, 0, 20, 5);
+    private static String[] buildProgressBars() {
+        String[] bars = new String[11];
+        for (int filled = 0; filled < bars.length; filled++) {
+            StringBuilder sb = new StringBuilder("§8[");
+            for (int i = 0; i < 10; i++) {
+                sb.append(i < filled ? "§a▌" : "§7▌");
+            }
+            sb.append("§8]");
+            bars[filled] = sb.toString();
         }
+        return bars;
     }
 
     private void playCompletionCelebration(Player player) {
@@ -1,14 +1,24 @@
 package com.avertox.questsystem.quest;
 
 import com.avertox.questsystem.model.PlayerQuestProfile;
+import com.avertox.questsystem.model.QuestAction;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class QuestProgressTracker {
     private final Map<UUID, PlayerQuestProfile> profiles = new ConcurrentHashMap<>();
+    private final Map<UUID, LoadingState> loading = new ConcurrentHashMap<>();
+    private final LinkedHashMap<UUID, OfflineProfile> offline = new LinkedHashMap<>(16, 0.75F, true);
+    private final AtomicLong offlineHits = new AtomicLong();
+    private final AtomicLong offlineMisses = new AtomicLong();
 
     public PlayerQuestProfile getOrCreate(UUID uuid) {
         return profiles.computeIfAbsent(uuid, PlayerQuestProfile::new);
@@ -26,10 +36,145 @@ public class QuestProgressTracker {
     }
 
     public PlayerQuestProfile remove(UUID uuid) {
+        loading.remove(uuid);
         return profiles.remove(uuid);
     }
 
     public Collection<PlayerQuestProfile> all() {
         return profiles.values();
     }
+
+    public boolean beginLoading(UUID uuid) {
+        return loading.putIfAbsent(uuid, new LoadingState()) == null;
+    }
+
+    public void cancelLoading(UUID uuid) {
+        loading.remove(uuid);
+    }
+
+    public boolean isLoading(UUID uuid) {
+        return loading.containsKey(uuid);
+    }
+
+    /**
+     * Queues an action for replay if the player's profile is still loading.
+     * Returns {@code false} when the profile is available and the action should be applied now.
+     */
+    public boolean bufferIfLoading(UUID uuid, QuestAction action, int limit) {
+        LoadingState state = loading.get(uuid);
+        if (state == null) {
+            return false;
+        }
+        synchronized (state) {
+            if (state.finished) {
+                return false;
+            }
+            if (state.actions.size() < limit) {
+                state.actions.add(action);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Publishes a loaded profile and returns the actions buffered while it was loading,
+     * or {@code null} if loading was cancelled in the meantime.
+     */
+    public List<QuestAction> finishLoading(PlayerQuestProfile profile) {
+        LoadingState state = loading.get(profile.uuid());
+        if (state == null) {
+            return null;
+        }
+        synchronized (state) {
+            state.finished = true;
+            profiles.put(profile.uuid(), profile);
+            loading.remove(profile.uuid(), state);
+            return new ArrayList<>(state.actions);
+        }
+    }
+
+    /**
+     * Keeps a flushed profile of a player who just quit so a quick rejoin skips storage.
+     * Returns the players dropped from the cache (including this one when the cache is disabled).
+     */
+    public List<UUID> cacheOffline(PlayerQuestProfile profile, int maxSize, long ttlMillis) {
+        if (maxSize <= 0 || ttlMillis <= 0L) {
+            return List.of(profile.uuid());
+        }
+        long now = System.currentTimeMillis();
+        List<UUID> evicted = new ArrayList<>();
+        synchronized (offline) {
+            offline.put(profile.uuid(), new OfflineProfile(profile, now));
+            Iterator<Map.Entry<UUID, OfflineProfile>> iterator = offline.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<UUID, OfflineProfile> entry = iterator.next();
+                if (offline.size() <= maxSize && now - entry.getValue().cachedAt() < ttlMillis) {
+                    continue;
+                }
+                evicted.add(entry.getKey());
+                iterator.remove();
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Drops cached profiles older than {@code ttlMillis} and returns their players so the caller can
+     * release their storage state. Entries are kept in caching order, so the sweep stops at the first fresh one.
+     */
+    public List<UUID> expireOffline(long ttlMillis) {
+        long now = System.currentTimeMillis();
+        List<UUID> expired = new ArrayList<>();
+        synchronized (offline) {
+            Iterator<Map.Entry<UUID, OfflineProfile>> iterator = offline.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<UUID, OfflineProfile> entry = iterator.next();
+                if (now - entry.getValue().cachedAt() < ttlMillis) {
+                    break;
+                }
+                expired.add(entry.getKey());
+                iterator.remove();
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Removes and returns the cached profile if it is still fresh. On a miss, including an entry that
+     * outlived its TTL, the caller loads from storage and must release any storage state it kept.
+     */
+    public PlayerQuestProfile takeOffline(UUID uuid, long ttlMillis) {
+        OfflineProfile cached;
+        synchronized (offline) {
+            cached = offline.remove(uuid);
+        }
+        if (cached == null || System.currentTimeMillis() - cached.cachedAt() >= ttlMillis) {
+            offlineMisses.incrementAndGet();
+            return null;
+        }
+        offlineHits.incrementAndGet();
+        return cached.profile();
+    }
+
+    public int offlineCacheSize() {
+        synchronized (offline) {
+            return offline.size();
+        }
+    }
+
+    public long offlineCacheHits() {
+        return offlineHits.get();
+    }
+
+    public long offlineCacheMisses() {
+        return offlineMisses.get();
+    }
+
+    private record OfflineProfile(PlayerQuestProfile profile, long cachedAt) {
+    }
+
+    private static final class LoadingState {
+        private final List<QuestAction> actions = new ArrayList<>();
+        private boolean finished;
+    }
 }
@@ -8,15 +8,18 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class QuestRegistry {
     private final Map<String, Quest> quests = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
 
     public void registerQuest(Quest quest) {
         if (quest == null) {
             return;
         }
         quests.put(quest.id().toLowerCase(), quest);
+        version.incrementAndGet();
     }
 
     public void unregisterQuest(String questId) {
@@ -24,6 +27,7 @@ public class QuestRegistry {
             return;
         }
         quests.remove(questId.toLowerCase());
+        version.incrementAndGet();
     }
 
     public Quest getQuest(String questId) {
@@ -49,5 +53,10 @@ public class QuestRegistry {
 
     public void clear() {
         quests.clear();
+        version.incrementAndGet();
+    }
+
+    public long version() {
+        return version.get();
     }
 }
@@ -1,6 +1,7 @@
 package com.avertox.questsystem.quest;
 
 import com.avertox.questsystem.model.QuestAction;
+import com.avertox.questsystem.model.QuestActionType;
 import com.avertox.questsystem.model.QuestTaskType;
 
 public interface QuestTask {
@@ -13,4 +14,29 @@ public interface QuestTask {
     }
 
     String describeTarget();
+
+    /**
+     * Action type this task reacts to. Tasks returning {@code null} are not indexed
+     * and are offered every action, which is the safe default for custom task types.
+     */
+    default QuestActionType actionType() {
+        return null;
+    }
+
+    /**
+     * Narrows indexing within {@link #actionType()} to actions whose {@link QuestAction#matchKey()}
+     * equals this value. {@code null} means any action of that type may match.
+     */
+    default Object matchKey() {
+        return null;
+    }
+
+    /**
+     * Whether this task may receive one action summing several same-type, same-key actions from a
+     * tick, carrying only the first action's location. Return {@code true} only if {@link #matches}
+     * and {@link #progressAmount} ignore {@link QuestAction#location()}; by default actions stay unmerged.
+     */
+    default boolean acceptsMergedActions() {
+        return false;
+    }
 }
@@ -0,0 +1,70 @@
+package com.avertox.questsystem.quest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Min-heap of per-player reset/expiry deadlines. Rescheduling pushes a new entry and
+ * leaves the old one in the heap; stale entries are skipped when they surface.
+ */
+public class ResetScheduler {
+    private final PriorityQueue<Deadline> queue = new PriorityQueue<>();
+    private final Map<UUID, Long> scheduled = new HashMap<>();
+
+    public synchronized void schedule(UUID uuid, long dueAt) {
+        Long current = scheduled.get(uuid);
+        if (current != null && current == dueAt) {
+            return;
+        }
+        scheduled.put(uuid, dueAt);
+        queue.add(new Deadline(uuid, dueAt));
+    }
+
+    public synchronized void cancel(UUID uuid) {
+        scheduled.remove(uuid);
+    }
+
+    public synchronized void clear() {
+        scheduled.clear();
+        queue.clear();
+    }
+
+    public synchronized List<UUID> pollDue(long now) {
+        List<UUID> due = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().dueAt() <= now) {
+            Deadline deadline = queue.poll();
+            Long current = scheduled.get(deadline.uuid());
+            if (current == null || current != deadline.dueAt()) {
+                continue;
+            }
+            scheduled.remove(deadline.uuid());
+            due.add(deadline.uuid());
+        }
+        if (queue.size() > 64 && queue.size() > scheduled.size() * 4) {
+            compact();
+        }
+        return due;
+    }
+
+    public synchronized int size() {
+        return scheduled.size();
+    }
+
+    private void compact() {
+        queue.clear();
+        for (Map.Entry<UUID, Long> entry : scheduled.entrySet()) {
+            queue.add(new Deadline(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private record Deadline(UUID uuid, long dueAt) implements Comparable<Deadline> {
+        @Override
+        public int compareTo(Deadline other) {
+            return Long.compare(dueAt, other.dueAt);
+        }
+    }
+}
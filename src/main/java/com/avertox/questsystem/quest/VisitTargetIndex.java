@@ -0,0 +1,163 @@
+package com.avertox.questsystem.quest;
+
+import com.avertox.questsystem.model.QuestActionType;
+import com.avertox.questsystem.quest.task.VisitCoordinatesTask;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Chunk-bucketed lookup of every registered visit target, per world UID, so the move
+ * handler can reject locations that are not near any target without allocating.
+ */
+public class VisitTargetIndex {
+    private static final int MAX_CHUNK_SPAN = 16;
+
+    private final long registryVersion;
+    private final Map<String, List<Target>> targetsByWorldName = new HashMap<>();
+    private final Map<UUID, WorldTargets> byWorld = new HashMap<>();
+    private boolean unfiltered;
+
+    private VisitTargetIndex(long registryVersion) {
+        this.registryVersion = registryVersion;
+    }
+
+    public static VisitTargetIndex build(QuestRegistry registry) {
+        VisitTargetIndex index = new VisitTargetIndex(registry.version());
+        for (Quest quest : registry.getAll()) {
+            QuestTask questTask = quest.task();
+            if (questTask instanceof VisitCoordinatesTask task) {
+                index.targetsByWorldName
+                        .computeIfAbsent(task.world().toLowerCase(Locale.ROOT), ignored -> new ArrayList<>())
+                        .add(new Target(quest.id().toLowerCase(Locale.ROOT), task));
+            } else if (questTask != null
+                    && (questTask.actionType() == null || questTask.actionType() == QuestActionType.PLAYER_MOVE)) {
+                // Custom task types that may react to movement cannot be filtered spatially.
+                index.unfiltered = true;
+            }
+        }
+        return index;
+    }
+
+    public boolean isStale(QuestRegistry registry) {
+        return registryVersion != registry.version();
+    }
+
+    public boolean isEmpty() {
+        return targetsByWorldName.isEmpty();
+    }
+
+    public boolean isUnfiltered() {
+        return unfiltered;
+    }
+
+    /**
+     * Targets whose bucket covers the given block, or {@code null} if there are none.
+     */
+    public Target[] candidates(World world, int blockX, int blockZ) {
+        WorldTargets targets = worldTargets(world);
+        if (targets == null) {
+            return null;
+        }
+        Target[] bucket = targets.bucket(chunkKey(blockX >> 4, blockZ >> 4));
+        return bucket != null ? bucket : targets.wide();
+    }
+
+    private synchronized WorldTargets worldTargets(World world) {
+        UUID uid = world.getUID();
+        if (byWorld.containsKey(uid)) {
+            return byWorld.get(uid);
+        }
+        List<Target> targets = targetsByWorldName.get(world.getName().toLowerCase(Locale.ROOT));
+        WorldTargets built = targets == null ? null : WorldTargets.build(targets);
+        byWorld.put(uid, built);
+        return built;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    public record Target(String questKey, VisitCoordinatesTask task) {
+    }
+
+    /**
+     * Immutable open-addressing table from chunk key to targets; targets whose radius
+     * spans too many chunks are kept in a list checked for every chunk of the world.
+     */
+    private static final class WorldTargets {
+        private final long[] keys;
+        private final Target[][] values;
+        private final Target[] wide;
+        private final int mask;
+
+        private WorldTargets(long[] keys, Target[][] values, Target[] wide) {
+            this.keys = keys;
+            this.values = values;
+            this.wide = wide;
+            this.mask = keys.length - 1;
+        }
+
+        static WorldTargets build(List<Target> targets) {
+            Map<Long, List<Target>> buckets = new HashMap<>();
+            List<Target> wide = new ArrayList<>();
+            for (Target target : targets) {
+                VisitCoordinatesTask task = target.task();
+                int minX = (int) Math.floor(task.x() - task.radius()) >> 4;
+                int maxX = (int) Math.floor(task.x() + task.radius()) >> 4;
+                int minZ = (int) Math.floor(task.z() - task.radius()) >> 4;
+                int maxZ = (int) Math.floor(task.z() + task.radius()) >> 4;
+                if (maxX - minX > MAX_CHUNK_SPAN || maxZ - minZ > MAX_CHUNK_SPAN) {
+                    wide.add(target);
+                    continue;
+                }
+                for (int cx = minX; cx <= maxX; cx++) {
+                    for (int cz = minZ; cz <= maxZ; cz++) {
+                        buckets.computeIfAbsent(chunkKey(cx, cz), ignored -> new ArrayList<>()).add(target);
+                    }
+                }
+            }
+
+            int capacity = Integer.highestOneBit(Math.max(2, buckets.size() * 2 + 1)) << 1;
+            long[] keys = new long[capacity];
+            Target[][] values = new Target[capacity][];
+            Target[] wideArray = wide.isEmpty() ? null : wide.toArray(new Target[0]);
+            for (Map.Entry<Long, List<Target>> entry : buckets.entrySet()) {
+                List<Target> merged = new ArrayList<>(entry.getValue());
+                merged.addAll(wide);
+                int slot = slot(entry.getKey(), capacity - 1);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                keys[slot] = entry.getKey();
+                values[slot] = merged.toArray(new Target[0]);
+            }
+            return new WorldTargets(keys, values, wideArray);
+        }
+
+        Target[] bucket(long key) {
+            int slot = slot(key, mask);
+            while (values[slot] != null) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        Target[] wide() {
+            return wide;
+        }
+
+        private static int slot(long key, int mask) {
+            long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32)) & mask;
+        }
+    }
+}
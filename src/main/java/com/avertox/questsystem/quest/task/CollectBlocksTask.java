@@ -26,6 +26,21 @@ public class CollectBlocksTask implements QuestTask {
         return material == null || material == action.material();
     }
 
+    @Override
+    public QuestActionType actionType() {
+        return QuestActionType.ITEM_COLLECT;
+    }
+
+    @Override
+    public boolean acceptsMergedActions() {
+        return true;
+    }
+
+    @Override
+    public Object matchKey() {
+        return material;
+    }
+
     @Override
     public String describeTarget() {
         return material == null ? "Collect block items" : "Collect " + material.name();
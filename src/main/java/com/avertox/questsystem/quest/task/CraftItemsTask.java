@@ -26,6 +26,21 @@ public class CraftItemsTask implements QuestTask {
         return material == null || material == action.material();
     }
 
+    @Override
+    public QuestActionType actionType() {
+        return QuestActionType.ITEM_CRAFT;
+    }
+
+    @Override
+    public boolean acceptsMergedActions() {
+        return true;
+    }
+
+    @Override
+    public Object matchKey() {
+        return material;
+    }
+
     @Override
     public String describeTarget() {
         return material == null ? "Craft items" : "Craft " + material.name();
@@ -26,6 +26,21 @@ public class KillMobsTask implements QuestTask {
         return entityType == null || entityType == action.entityType();
     }
 
+    @Override
+    public QuestActionType actionType() {
+        return QuestActionType.MOB_KILL;
+    }
+
+    @Override
+    public boolean acceptsMergedActions() {
+        return true;
+    }
+
+    @Override
+    public Object matchKey() {
+        return entityType;
+    }
+
     @Override
     public String describeTarget() {
         return entityType == null ? "Kill mobs" : "Kill " + entityType.name();
@@ -33,6 +33,21 @@ public class MineOresTask implements QuestTask {
         return isOre(target);
     }
 
+    @Override
+    public QuestActionType actionType() {
+        return QuestActionType.BLOCK_BREAK;
+    }
+
+    @Override
+    public boolean acceptsMergedActions() {
+        return true;
+    }
+
+    @Override
+    public Object matchKey() {
+        return material;
+    }
+
     @Override
     public String describeTarget() {
         return material == null ? "Mine ores" : "Mine " + material.name();
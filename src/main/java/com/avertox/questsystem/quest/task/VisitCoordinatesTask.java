@@ -5,22 +5,76 @@ import com.avertox.questsystem.model.QuestActionType;
 import com.avertox.questsystem.model.QuestTaskType;
 import com.avertox.questsystem.quest.QuestTask;
 import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class VisitCoordinatesTask implements QuestTask {
     private final String world;
     private final double x;
     private final double y;
     private final double z;
+    private final double radius;
     private final double radiusSquared;
+    private final Map<UUID, Boolean> worldMatches = new ConcurrentHashMap<>();
+    private volatile UUID worldUid;
 
     public VisitCoordinatesTask(String world, double x, double y, double z, double radius) {
         this.world = world;
         this.x = x;
         this.y = y;
         this.z = z;
+        this.radius = radius;
         this.radiusSquared = radius * radius;
     }
 
+    public String world() {
+        return world;
+    }
+
+    public double x() {
+        return x;
+    }
+
+    public double y() {
+        return y;
+    }
+
+    public double z() {
+        return z;
+    }
+
+    public double radius() {
+        return radius;
+    }
+
+    public boolean isWorld(World candidate) {
+        UUID uid = candidate.getUID();
+        if (uid.equals(worldUid)) {
+            return true;
+        }
+        // Each UID is compared by name once, matching or not; a world regenerated under the same
+        // name gets a new UID and is resolved again.
+        Boolean known = worldMatches.get(uid);
+        if (known == null) {
+            known = candidate.getName().equalsIgnoreCase(world);
+            worldMatches.put(uid, known);
+        }
+        if (known) {
+            worldUid = uid;
+        }
+        return known;
+    }
+
+    public boolean contains(double px, double py, double pz) {
+        double dx = px - x;
+        double dy = py - y;
+        double dz = pz - z;
+        return (dx * dx + dy * dy + dz * dz) <= radiusSquared;
+    }
+
     @Override
     public QuestTaskType type() {
         return QuestTaskType.VISIT_COORDINATES;
@@ -35,13 +89,7 @@ public class VisitCoordinatesTask implements QuestTask {
         if (location == null || location.getWorld() == null) {
             return false;
         }
-        if (!location.getWorld().getName().equalsIgnoreCase(world)) {
-            return false;
-        }
-        double dx = location.getX() - x;
-        double dy = location.getY() - y;
-        double dz = location.getZ() - z;
-        return (dx * dx + dy * dy + dz * dz) <= radiusSquared;
+        return isWorld(location.getWorld()) && contains(location.getX(), location.getY(), location.getZ());
     }
 
     @Override
@@ -49,6 +97,11 @@ public class VisitCoordinatesTask implements QuestTask {
         return 1;
     }
 
+    @Override
+    public QuestActionType actionType() {
+        return QuestActionType.PLAYER_MOVE;
+    }
+
     @Override
     public String describeTarget() {
         return "Visit " + world + " (" + Math.round(x) + ", " + Math.round(y) + ", " + Math.round(z) + ")";
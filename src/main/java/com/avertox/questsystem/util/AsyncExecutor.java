@@ -1,35 +1,165 @@
 package com.avertox.questsystem.util;
 
+import com.avertox.questsystem.config.MainConfig;
+import com.avertox.questsystem.metrics.Counter;
+import com.avertox.questsystem.metrics.PluginMetrics;
+import com.avertox.questsystem.metrics.Timer;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+/**
+ * Storage worker pool: named daemon threads, a bounded queue handled by the configured
+ * {@link AsyncOverflowPolicy} when full, queue-wait and run-time timers per task, and a shutdown
+ * that lets queued work (profile saves included) drain before anything is dropped.
+ */
 public class AsyncExecutor {
     private final JavaPlugin plugin;
-    private final ExecutorService pool;
+    private final ThreadPoolExecutor pool;
+    private final int queueCapacity;
+    private final AsyncOverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final long shutdownTimeoutSeconds;
+    private final Timer queueWait;
+    private final Timer runTime;
+    private final Counter callerRuns;
+    private final Counter blockedSubmits;
+    private final Counter rejectedOnMainThread;
+    private final ThreadLocal<Boolean> submittingDeferrable = ThreadLocal.withInitial(() -> Boolean.FALSE);
 
-    public AsyncExecutor(JavaPlugin plugin, int threads) {
+    public AsyncExecutor(JavaPlugin plugin, MainConfig config, PluginMetrics metrics) {
         this.plugin = plugin;
-        this.pool = Executors.newFixedThreadPool(Math.max(2, threads));
+        this.queueCapacity = config.asyncQueueCapacity();
+        this.overflowPolicy = config.asyncOverflowPolicy();
+        this.blockTimeoutMillis = config.asyncBlockTimeoutMillis();
+        this.shutdownTimeoutSeconds = config.asyncShutdownTimeoutSeconds();
+        int threads = config.asyncThreads();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(plugin.getName()), this::onOverflow);
+        this.queueWait = metrics.timer("async.queue_wait");
+        this.runTime = metrics.timer("async.task_run");
+        this.callerRuns = metrics.counter("async.caller_runs");
+        this.blockedSubmits = metrics.counter("async.blocked_submits");
+        this.rejectedOnMainThread = metrics.counter("async.main_thread_rejections");
+        metrics.gauge("async.queue_depth", this::queueDepth);
+        metrics.gauge("async.queue_capacity", () -> queueCapacity);
+        metrics.gauge("async.active_threads", pool::getActiveCount);
+        metrics.gauge("async.completed_tasks", pool::getCompletedTaskCount);
     }
 
     public <T> CompletableFuture<T> supply(Supplier<T> supplier) {
-        return CompletableFuture.supplyAsync(supplier, pool);
+        long queued = queueWait.start();
+        return CompletableFuture.supplyAsync(() -> {
+            queueWait.stop(queued);
+            long start = runTime.start();
+            try {
+                return supplier.get();
+            } finally {
+                runTime.stop(start);
+            }
+        }, pool);
     }
 
     public CompletableFuture<Void> run(Runnable runnable) {
-        return CompletableFuture.runAsync(runnable, pool);
+        long queued = queueWait.start();
+        return CompletableFuture.runAsync(() -> {
+            queueWait.stop(queued);
+            long start = runTime.start();
+            try {
+                runnable.run();
+            } finally {
+                runTime.stop(start);
+            }
+        }, pool);
+    }
+
+    /**
+     * Like {@link #run}, for writes the caller can keep and retry. When the queue is full and the
+     * caller is the main thread, the task never runs inline: the returned future fails with
+     * {@link RejectedExecutionException} instead. Callers off the main thread get the overflow policy.
+     */
+    public CompletableFuture<Void> runDeferrable(Runnable runnable) {
+        submittingDeferrable.set(Boolean.TRUE);
+        try {
+            return run(runnable);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        } finally {
+            submittingDeferrable.set(Boolean.FALSE);
+        }
     }
 
     public void runSync(Runnable runnable) {
         Bukkit.getScheduler().runTask(plugin, runnable);
     }
 
+    public int queueDepth() {
+        return pool.getQueue().size();
+    }
+
+    /**
+     * True once the queue is at least half full; producers that can defer work (write-behind
+     * flushes) should hold it back rather than push the executor into its overflow policy.
+     */
+    public boolean isSaturated() {
+        return queueDepth() * 2 >= queueCapacity;
+    }
+
+    /**
+     * Stops accepting work and waits up to {@code async.shutdown_timeout_seconds} for queued and
+     * running tasks; only what is still queued after that is dropped, and the count is logged.
+     */
     public void shutdown() {
-        pool.shutdownNow();
+        pool.shutdown();
+        try {
+            if (pool.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        List<Runnable> dropped = pool.shutdownNow();
+        plugin.getLogger().warning("Async executor did not drain within " + shutdownTimeoutSeconds
+                + "s; dropped " + dropped.size() + " queued tasks.");
+    }
+
+    private void onOverflow(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Async executor is shut down");
+        }
+        if (submittingDeferrable.get() && Bukkit.isPrimaryThread()) {
+            rejectedOnMainThread.increment();
+            throw new RejectedExecutionException("Async queue is full; deferring write off the main thread");
+        }
+        if (overflowPolicy == AsyncOverflowPolicy.BLOCK && !Bukkit.isPrimaryThread()) {
+            try {
+                if (executor.getQueue().offer(task, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    blockedSubmits.increment();
+                    return;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        callerRuns.increment();
+        task.run();
+    }
+
+    private static ThreadFactory threadFactory(String pluginName) {
+        AtomicInteger ids = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, pluginName + "-async-" + ids.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 }
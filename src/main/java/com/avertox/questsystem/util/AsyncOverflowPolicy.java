@@ -0,0 +1,24 @@
+package com.avertox.questsystem.util;
+
+/**
+ * What {@link AsyncExecutor} does with a task submitted while its queue is full. Writes submitted
+ * through {@link AsyncExecutor#runDeferrable} from the main thread are rejected under either policy.
+ */
+public enum AsyncOverflowPolicy {
+    /**
+     * The submitting thread runs the task itself, which slows the producer to the executor's pace.
+     */
+    CALLER_RUNS,
+    /**
+     * Off the main thread, wait for queue space up to the configured timeout before running the
+     * task on the caller; the main thread never waits and always runs it directly.
+     */
+    BLOCK;
+
+    public static AsyncOverflowPolicy from(String raw) {
+        if (raw != null && (raw.equalsIgnoreCase("block") || raw.equalsIgnoreCase("block_off_main"))) {
+            return BLOCK;
+        }
+        return CALLER_RUNS;
+    }
+}
@@ -0,0 +1,69 @@
+package com.avertox.questsystem.util;
+
+import org.bukkit.Material;
+import org.bukkit.Tag;
+
+/**
+ * Material-ordinal lookup of which tool class mines a block and which class a held item
+ * belongs to, built once from the MINEABLE tags and tool names instead of per hit.
+ */
+public final class MiningToolTable {
+    public static final byte NONE = 0;
+    public static final byte PICKAXE = 1;
+    public static final byte SHOVEL = 2;
+    public static final byte AXE = 3;
+
+    private final byte[] blockClasses;
+    private final byte[] toolClasses;
+
+    private MiningToolTable(byte[] blockClasses, byte[] toolClasses) {
+        this.blockClasses = blockClasses;
+        this.toolClasses = toolClasses;
+    }
+
+    public static MiningToolTable build() {
+        Material[] materials = Material.values();
+        byte[] blockClasses = new byte[materials.length];
+        byte[] toolClasses = new byte[materials.length];
+        for (Material material : materials) {
+            int index = material.ordinal();
+            if (Tag.MINEABLE_PICKAXE.isTagged(material)) {
+                blockClasses[index] = PICKAXE;
+            } else if (Tag.MINEABLE_SHOVEL.isTagged(material)) {
+                blockClasses[index] = SHOVEL;
+            } else if (Tag.MINEABLE_AXE.isTagged(material)) {
+                blockClasses[index] = AXE;
+            }
+
+            String name = material.name();
+            if (name.endsWith("_PICKAXE")) {
+                toolClasses[index] = PICKAXE;
+            } else if (name.endsWith("_SHOVEL")) {
+                toolClasses[index] = SHOVEL;
+            } else if (name.endsWith("_AXE")) {
+                toolClasses[index] = AXE;
+            }
+        }
+        return new MiningToolTable(blockClasses, toolClasses);
+    }
+
+    public byte blockClass(Material block) {
+        return blockClasses[block.ordinal()];
+    }
+
+    public byte toolClass(Material held) {
+        return toolClasses[held.ordinal()];
+    }
+
+    public boolean isSupportedBlock(Material block) {
+        return blockClasses[block.ordinal()] != NONE;
+    }
+
+    public boolean isMatchingTool(Material held, Material block) {
+        byte required = blockClasses[block.ordinal()];
+        if (required == NONE) {
+            return held != Material.AIR;
+        }
+        return toolClasses[held.ordinal()] == required;
+    }
+}
@@ -0,0 +1,94 @@
+package com.avertox.questsystem.util;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reset and expiry boundaries as plain epoch millis. The weekly window is computed in the
+ * configured zone once and only recomputed after the clock crosses into the next week,
+ * so every check is a long comparison.
+ */
+public final class ResetCalendar {
+    private final ZoneId zone;
+    private final DayOfWeek weeklyResetDay;
+    private final long dailyIntervalMillis;
+    private final long monthlyIntervalMillis;
+    private volatile WeeklyWindow window;
+
+    public ResetCalendar(ZoneId zone, DayOfWeek weeklyResetDay, int dailyResetHours, int monthlyResetDays) {
+        this.zone = zone;
+        this.weeklyResetDay = weeklyResetDay;
+        this.dailyIntervalMillis = TimeUnit.HOURS.toMillis(Math.max(1, dailyResetHours));
+        this.monthlyIntervalMillis = TimeUnit.DAYS.toMillis(Math.max(1, monthlyResetDays));
+    }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    public boolean needsDailyReset(long lastResetEpochMs, long now) {
+        return lastResetEpochMs <= 0L || now - lastResetEpochMs >= dailyIntervalMillis;
+    }
+
+    public boolean needsWeeklyReset(long lastResetEpochMs, long now) {
+        WeeklyWindow current = window(now);
+        return now < current.resetDayEnd() && (lastResetEpochMs <= 0L || lastResetEpochMs < current.resetDayStart());
+    }
+
+    public boolean needsMonthlyReset(long lastResetEpochMs, long now) {
+        return lastResetEpochMs <= 0L || now - lastResetEpochMs >= monthlyIntervalMillis;
+    }
+
+    public long nextDailyReset(long lastResetEpochMs, long now) {
+        return lastResetEpochMs <= 0L ? now : lastResetEpochMs + dailyIntervalMillis;
+    }
+
+    public long nextWeeklyReset(long lastResetEpochMs, long now) {
+        if (needsWeeklyReset(lastResetEpochMs, now)) {
+            return now;
+        }
+        return window(now).nextResetDayStart();
+    }
+
+    public long nextMonthlyReset(long lastResetEpochMs, long now) {
+        return lastResetEpochMs <= 0L ? now : lastResetEpochMs + monthlyIntervalMillis;
+    }
+
+    public long dailyExpiry(long now) {
+        return now + dailyIntervalMillis;
+    }
+
+    public long weeklyExpiry(long now) {
+        return window(now).nextResetDayStart();
+    }
+
+    public long monthlyExpiry(long now) {
+        return now + monthlyIntervalMillis;
+    }
+
+    private WeeklyWindow window(long now) {
+        WeeklyWindow current = window;
+        if (current == null || now < current.resetDayStart() || now >= current.nextResetDayStart()) {
+            current = computeWindow(now);
+            window = current;
+        }
+        return current;
+    }
+
+    private WeeklyWindow computeWindow(long now) {
+        ZonedDateTime today = Instant.ofEpochMilli(now).atZone(zone).toLocalDate().atStartOfDay(zone);
+        int daysSince = (today.getDayOfWeek().getValue() - weeklyResetDay.getValue() + 7) % 7;
+        ZonedDateTime start = today.minusDays(daysSince);
+        return new WeeklyWindow(
+                start.toInstant().toEpochMilli(),
+                start.plusDays(1).toInstant().toEpochMilli(),
+                start.plusDays(7).toInstant().toEpochMilli()
+        );
+    }
+
+    private record WeeklyWindow(long resetDayStart, long resetDayEnd, long nextResetDayStart) {
+    }
+}